@@ -2,6 +2,9 @@ package com.philectron.algorithms.datastructures.interfaces;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public interface List<E> extends Iterable<E> {
@@ -358,4 +361,43 @@ public interface List<E> extends Iterable<E> {
      */
     void reverse();
 
+    /**
+     * Creates a {@link Spliterator} over the elements of this list, in order. The spliterator
+     * knows the exact size of this list and of every split, so a parallel stream can divide the
+     * work evenly.
+     *
+     * <p>
+     * By default, a split copies the next batch of elements from the iterator of this list into
+     * an array, with batches growing in size, which suits lists that can only be traversed in
+     * order, such as linked lists. Lists with random access should override this method to split
+     * by index instead. The spliterator reflects the size of this list when it is created, so
+     * this list must not be modified while it is traversed.
+     * </p>
+     *
+     * @return a new ordered and sized spliterator over the elements of this list
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Creates a sequential {@link Stream} of the elements of this list, in order.
+     *
+     * @return a new sequential stream over the elements of this list
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Creates a parallel {@link Stream} of the elements of this list, in order, which splits the
+     * elements with {@link #spliterator()} to process them on several threads.
+     *
+     * @return a new parallel stream over the elements of this list
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
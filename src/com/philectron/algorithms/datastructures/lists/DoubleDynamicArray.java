@@ -0,0 +1,364 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.philectron.algorithms.logic.Assertion.assertPositionIndex;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class DoubleDynamicArray {
+
+    static final int DEFAULT_CAPACITY = 20;
+
+    private double[] array;
+    private int size;
+
+    /**
+     * Initializes an empty dynamic array of {@code double} elements with capacity of
+     * {@value #DEFAULT_CAPACITY}.
+     */
+    public DoubleDynamicArray() {
+        size = 0;
+        array = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Initializes a dynamic array with all elements copied from {@code values}.
+     *
+     * @param values the array whose elements are to be copied to this list
+     *
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public DoubleDynamicArray(double[] values) {
+        checkNotNull(values);
+        size = values.length;
+        array = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, values.length));
+    }
+
+    /**
+     * Retrieves the size of this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this list is empty.
+     *
+     * @return {@code true} if this list has no elements (when {@link #size()} is zero), else
+     *         {@code false}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the element at index {@code index} of this list.
+     *
+     * @param index the index of the element to return
+     *
+     * @return the element at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #size()}
+     */
+    public double get(int index) {
+        checkElementIndex(index, size);
+        return array[index];
+    }
+
+    /**
+     * Retrieves the first element of this list.
+     *
+     * @return the element at the first index of this list
+     *
+     * @throws IndexOutOfBoundsException if this list {@link #isEmpty()}
+     */
+    public double getFirst() {
+        return get(0);
+    }
+
+    /**
+     * Retrieves the last element of this list.
+     *
+     * @return the element at the last index of this list
+     *
+     * @throws IndexOutOfBoundsException if this list {@link #isEmpty()}
+     */
+    public double getLast() {
+        return get(size - 1);
+    }
+
+    /**
+     * Replaces the element at index {@code index} of this list with {@code element}.
+     *
+     * @param index the index of the element to replace
+     * @param element the new element to be stored at {@code index}
+     *
+     * @return the element previously at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #size()}
+     */
+    public double set(int index, double element) {
+        checkElementIndex(index, size);
+        final double oldValue = array[index];
+        array[index] = element;
+        return oldValue;
+    }
+
+    /**
+     * Inserts {@code element} into this list at index {@code position}. Shifts the current element
+     * at that index (if any) and any subsequent elements to the right (adds 1 to their indices).
+     *
+     * @param position the position index at which the new element is to be inserted
+     * @param element the element to be inserted at {@code position}
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is negative or is greater than
+     *         {@link #size()}
+     */
+    public void add(int position, double element) {
+        assertPositionIndex(size, array.length);
+        checkPositionIndex(position, size);
+
+        // Grow the array if the capacity is reached.
+        if (size == array.length) {
+            array = Arrays.copyOf(array, 2 * array.length);
+        }
+
+        System.arraycopy(array, position, array, position + 1, size - position);
+        array[position] = element;
+        ++size;
+    }
+
+    /**
+     * Appends {@code element} to the end of this list.
+     *
+     * @param element the element to be appended
+     */
+    public void add(double element) {
+        add(size, element);
+    }
+
+    /**
+     * Inserts {@code element} as the first element of this list. Shifts the current first element
+     * (if any) and any subsequent elements to the right (adds 1 to their indices).
+     *
+     * @param element the element to be inserted as the first element
+     */
+    public void addFirst(double element) {
+        add(0, element);
+    }
+
+    /**
+     * Inserts {@code element} as the last element of this list.
+     *
+     * @param element the element to be inserted as the last element
+     */
+    public void addLast(double element) {
+        add(size, element);
+    }
+
+    /**
+     * Appends all elements of {@code values} to the end of this list, growing the array at most
+     * once.
+     *
+     * @param values the array containing the elements to be appended
+     *
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public void addAll(double[] values) {
+        checkNotNull(values);
+
+        if (size + values.length > array.length) {
+            array = Arrays.copyOf(array, Math.max(2 * array.length, size + values.length));
+        }
+
+        System.arraycopy(values, 0, array, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Finds the first occurrence of {@code element} in this list.
+     *
+     * <p>
+     * Elements are compared as by {@link Double#equals(Object)}, like a list of boxed
+     * {@link Double}s would, so {@code NaN} matches {@code NaN} while {@code -0.0} does not match
+     * {@code 0.0}.
+     * </p>
+     *
+     * @param element the element to be searched in this list
+     *
+     * @return the index of the first occurrence of {@code element}, or {@code -1} if this list does
+     *         not contain {@code element}
+     */
+    public int indexOf(double element) {
+        final long bits = Double.doubleToLongBits(element);
+
+        for (int i = 0; i < size; ++i) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1; // not found
+    }
+
+    /**
+     * Finds the last occurrence of {@code element} in this list.
+     *
+     * @param element the element to be searched in this list
+     *
+     * @return the index of the last occurrence of {@code element}, or {@code -1} if this list does
+     *         not contain {@code element}
+     */
+    public int lastIndexOf(double element) {
+        final long bits = Double.doubleToLongBits(element);
+
+        for (int i = size - 1; i >= 0; --i) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1; // not found
+    }
+
+    /**
+     * Checks if this list contains {@code element}.
+     *
+     * @param element the element to be searched in this list
+     *
+     * @return {@code true} if this list contains {@code element}, else {@code false}
+     */
+    public boolean contains(double element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Removes the element at index {@code index} from this list. Shifts any subsequent elements to
+     * the left (subtracts 1 from their indices).
+     *
+     * @param index the index of the element to be removed
+     *
+     * @return the element previously at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #size()}
+     */
+    public double remove(int index) {
+        checkElementIndex(index, size);
+
+        final double oldValue = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        --size;
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of {@code element}, if it exists, from this list. Shifts any
+     * subsequent elements to the left (subtracts 1 from their indices). Named differently from
+     * {@link #remove(int)}, whose {@code int} index would otherwise be easy to mix up with a
+     * {@code double} element.
+     *
+     * @param element the element to be removed if exists
+     *
+     * @return {@code true} if {@code element} was removed from this list, else {@code false}
+     */
+    public boolean removeValue(double element) {
+        final int index = indexOf(element);
+        if (index == -1) {
+            return false; // element not found, array was unmodified
+        }
+
+        remove(index);
+
+        return true; // element found, array was modified
+    }
+
+    /**
+     * Removes the first element from this list. Shifts any subsequent elements to the left
+     * (subtracts 1 from their indices).
+     *
+     * @return the previous first element of this list
+     *
+     * @throws IndexOutOfBoundsException if the list {@link #isEmpty()}
+     */
+    public double removeFirst() {
+        return remove(0);
+    }
+
+    /**
+     * Removes the last element from this list.
+     *
+     * @return the previous last element of this list
+     *
+     * @throws IndexOutOfBoundsException if the list {@link #isEmpty()}
+     */
+    public double removeLast() {
+        return remove(size - 1);
+    }
+
+    /**
+     * Removes all elements from this list. The list will be empty after this call, while its
+     * capacity stays the same, since primitive elements hold no references to release.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Reverses this list's order of elements.
+     */
+    public void reverse() {
+        assertPositionIndex(size, array.length);
+
+        int left = 0;
+        int right = size - 1;
+        while (left < right) {
+            final double tmp = array[left];
+            array[left] = array[right];
+            array[right] = tmp;
+            ++left;
+            --right;
+        }
+    }
+
+    /**
+     * Copies the elements of this list into a new array.
+     *
+     * @return an array of length {@link #size()} holding the elements of this list in order
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Returns an iterator over the elements of this list, which returns them as primitives
+     * through {@link PrimitiveIterator.OfDouble#nextDouble()}.
+     *
+     * @return a primitive iterator over the elements of this list in order
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Iterator has no more elements");
+                }
+                return array[currentIndex++];
+            }
+        };
+    }
+
+}
@@ -1,30 +1,85 @@
 package com.philectron.algorithms.datastructures.lists;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.base.Preconditions.checkState;
 import static com.philectron.algorithms.logic.Assertion.assertElementIndex;
 import static com.philectron.algorithms.logic.Assertion.assertNotNegative;
 import static com.philectron.algorithms.logic.Assertion.assertNotNull;
 import static com.philectron.algorithms.logic.Assertion.assertPositionIndex;
 
 import com.philectron.algorithms.datastructures.interfaces.List;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 public class DynamicArray<E> implements List<E> {
 
     static final int DEFAULT_CAPACITY = 20;
 
+    // Some virtual machines reserve a few header words in an array.
+    static final int MAX_ARRAY_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int initialCapacity; // the array never shrinks below this capacity
+    private final int maximumCapacity; // -1 for no restrictions
+    private final GrowthPolicy growthPolicy;
     private E[] array;
     private int size;
 
+    private long reallocationCount; // the number of times the array was replaced
+    private long copiedElementCount; // the number of elements copied into replacement arrays
+
     /**
-     * Initializes an empty dynamic array with capacity of 1.
+     * Initializes an empty dynamic array with default capacity, which doubles whenever it is
+     * reached.
      */
     public DynamicArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initializes an empty dynamic array with the given capacity, which doubles whenever it is
+     * reached. Passing the expected number of elements avoids reallocating the array while it is
+     * filled.
+     *
+     * @param initialCapacity the initial amount of memory to be allocated for the array
+     *
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public DynamicArray(int initialCapacity) {
+        this(initialCapacity, -1, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Initializes an empty dynamic array with the given capacity, maximum capacity and growth
+     * policy, where a value of {@code -1} for maximum capacity means no restrictions. Once the
+     * maximum capacity is reached, insertions return {@code false} without inserting.
+     *
+     * @param initialCapacity the initial amount of memory to be allocated for the array
+     * @param maximumCapacity the maximum capacity restriction the array can hold
+     * @param growthPolicy the policy that computes the new capacity whenever the array grows or
+     *        elements are removed
+     *
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative, or if
+     *         {@code maximumCapacity} is not {@code -1} and less than {@code initialCapacity}
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     */
+    public DynamicArray(int initialCapacity, int maximumCapacity, GrowthPolicy growthPolicy) {
+        checkArgument(initialCapacity >= 0, "Initial capacity must not be negative");
+        checkArgument(maximumCapacity == -1 || initialCapacity <= maximumCapacity,
+                "Initial capacity must be at or below maximum capacity");
+        this.initialCapacity = initialCapacity;
+        this.maximumCapacity = maximumCapacity;
+        this.growthPolicy = checkNotNull(growthPolicy);
         size = 0;
-        array = allocateArray(DEFAULT_CAPACITY);
+        array = allocateArray(initialCapacity);
     }
 
     /**
@@ -78,13 +133,12 @@ public class DynamicArray<E> implements List<E> {
         checkPositionIndex(position, size);
 
         // Grow the array if the capacity is reached.
-        if (size == array.length) {
-            growArray();
+        if (size == array.length && !growArray(size + 1)) {
+            return false; // the maximum capacity is reached
         }
 
-        for (int i = size; i > position; --i) {
-            array[i] = array[i - 1];
-        }
+        // Shift the elements from the position onward to the right in one block move.
+        System.arraycopy(array, position, array, position + 1, size - position);
 
         array[position] = element;
 
@@ -93,19 +147,182 @@ public class DynamicArray<E> implements List<E> {
     }
 
     /**
-     * Allocates a new array with double the capacity of the original array and copies all the
+     * Appends all elements of {@code iterable} to the end of this list, in the order they are
+     * returned by its iterator.
+     *
+     * <p>
+     * If the number of elements of {@code iterable} is known up front, i.e. it is a
+     * {@link List} or a {@link Collection}, the array grows at most once, and the elements of
+     * another {@link DynamicArray} are copied over in one block move. If the maximum capacity is
+     * reached, only the elements that fit are appended.
+     * </p>
+     *
+     * @param iterable the {@link Iterable} whose elements are to be appended to this list
+     *
+     * @return {@code true} if this list was modified, else {@code false}
+     *
+     * @throws NullPointerException if {@code iterable} is {@code null}
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> iterable) {
+        checkNotNull(iterable);
+        assertPositionIndex(size, array.length);
+
+        final int count;
+        if (iterable instanceof List<?> list) {
+            count = list.size();
+        } else if (iterable instanceof Collection<?> collection) {
+            count = collection.size();
+        } else {
+            return List.super.addAll(iterable);
+        }
+
+        if (count == 0) {
+            return false;
+        }
+        if (size + count > array.length && !growArray(size + count)) {
+            return List.super.addAll(iterable); // append the elements that still fit
+        }
+
+        if (iterable instanceof DynamicArray<? extends E> other) {
+            // Also copies this list onto its own end correctly, since the count is taken first.
+            System.arraycopy(other.array, 0, array, size, count);
+            size += count;
+        } else {
+            // Stop at the counted elements, or the array could overflow if iterating this list.
+            Iterator<? extends E> it = iterable.iterator();
+            for (int i = 0; i < count && it.hasNext(); ++i) {
+                array[size++] = it.next();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the number of elements this list can hold before its array has to grow.
+     *
+     * @return the capacity of the array
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Retrieves the number of times the array was replaced by a larger or smaller one.
+     *
+     * @return the number of reallocations
+     */
+    public long getReallocationCount() {
+        return reallocationCount;
+    }
+
+    /**
+     * Retrieves the number of elements copied from old arrays into their replacements, which is
+     * the cost of all reallocations so far.
+     *
+     * @return the number of copied elements
+     */
+    public long getCopiedElementCount() {
+        return copiedElementCount;
+    }
+
+    /**
+     * Increases the capacity, if necessary, so that this list can hold at least
+     * {@code minCapacity} elements without reallocating its array. Calling this before adding
+     * many elements replaces any number of reallocations with a single one.
+     *
+     * @param minCapacity the number of elements this list must be able to hold
+     *
+     * @throws IllegalArgumentException if {@code minCapacity} is negative or greater than the
+     *         maximum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkArgument(minCapacity >= 0, "Capacity must not be negative");
+        checkArgument(minCapacity <= capacityLimit(),
+                "Capacity must be at or below maximum capacity");
+        if (minCapacity > array.length) {
+            reallocate(minCapacity);
+        }
+    }
+
+    /**
+     * Reduces the capacity to the size of this list, to release the memory of unused capacity
+     * once the list is not expected to grow anymore.
+     */
+    public void trimToSize() {
+        assertPositionIndex(size, array.length);
+        if (size < array.length) {
+            reallocate(size);
+        }
+    }
+
+    /**
+     * Allocates a new array with the capacity given by the growth policy and copies all the
      * elements there.
+     *
+     * @param minCapacity the number of elements the new array must be able to hold
+     *
+     * @return {@code true} if the array was grown, or {@code false} if {@code minCapacity} is
+     *         greater than the maximum capacity
+     *
+     * @throws IllegalStateException if the growth policy returned less than {@code minCapacity}
+     */
+    private boolean growArray(int minCapacity) {
+        assertNotNull(array);
+        assertPositionIndex(size, array.length);
+
+        final int limit = capacityLimit();
+        if (minCapacity > limit) {
+            return false;
+        }
+
+        final int newCapacity = Math.min(limit, growthPolicy.grow(array.length, minCapacity));
+        checkState(newCapacity >= minCapacity, "Growth policy returned too small a capacity");
+        reallocate(newCapacity);
+        return true;
+    }
+
+    /**
+     * Allocates a new array with the capacity given by the growth policy, if it is smaller than
+     * the current one, and copies all the elements there. Never shrinks below the initial
+     * capacity.
+     *
+     * @throws IllegalStateException if the growth policy returned less than {@link #size()}
      */
-    private void growArray() {
-        E[] oldArray = assertNotNull(array);
-        assertPositionIndex(size, oldArray.length);
-        array = allocateArray(oldArray.length * 2);
-        for (int i = 0; i < oldArray.length; ++i) {
-            array[i] = oldArray[i];
-            oldArray[i] = null; // to help with garbage collection
+    private void shrinkArray() {
+        assertNotNull(array);
+        assertPositionIndex(size, array.length);
+
+        final int newCapacity =
+                Math.max(initialCapacity, growthPolicy.shrink(array.length, size));
+        if (newCapacity < array.length) {
+            checkState(newCapacity >= size, "Growth policy returned too small a capacity");
+            reallocate(newCapacity);
         }
     }
 
+    /**
+     * Replaces the array with one of length {@code newCapacity} holding the same elements.
+     *
+     * @param newCapacity the capacity of the new array, which is at least {@link #size()}
+     */
+    private void reallocate(int newCapacity) {
+        assertPositionIndex(size, newCapacity);
+        array = Arrays.copyOf(array, newCapacity);
+        ++reallocationCount;
+        copiedElementCount += size;
+    }
+
+    /**
+     * Retrieves the largest capacity the array may grow to.
+     *
+     * @return the maximum capacity, or the largest possible array length if there are no
+     *         restrictions
+     */
+    private int capacityLimit() {
+        return maximumCapacity == -1 ? MAX_ARRAY_CAPACITY : maximumCapacity;
+    }
+
     @Override
     public int indexOf(E element) {
         assertPositionIndex(size, array.length);
@@ -139,15 +356,38 @@ public class DynamicArray<E> implements List<E> {
 
         E oldValue = array[index];
 
-        for (int i = index; i < size - 1; ++i) {
-            array[i] = array[i + 1];
-        }
+        // Shift the elements after the index to the left in one block move.
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
         array[size - 1] = null; // to help with garbage collection
 
         --size;
+        shrinkArray();
         return oldValue;
     }
 
+    /**
+     * Removes the elements from index {@code fromIndex}, inclusive, to index {@code toIndex},
+     * exclusive, shifting any subsequent elements to the left. Removing a range this way shifts
+     * the subsequent elements once, instead of once per removed element.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex the index after the last element to be removed
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} or {@code toIndex} is negative or
+     *         greater than {@link #size()}, or if {@code toIndex} is less than {@code fromIndex}
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        assertPositionIndex(size, array.length);
+        checkPositionIndexes(fromIndex, toIndex, size);
+
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+
+        final int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null); // to help with garbage collection
+        size = newSize;
+        shrinkArray();
+    }
+
     @Override
     public boolean remove(E element) {
         assertPositionIndex(size, array.length);
@@ -162,11 +402,15 @@ public class DynamicArray<E> implements List<E> {
         return true; // element found, array was modified
     }
 
+    /**
+     * Removes all elements from this list, keeping the capacity so the list can be refilled
+     * without reallocating. Call {@link #trimToSize()} afterward to release the memory.
+     */
     @Override
     public void clear() {
-        while (!isEmpty()) {
-            removeLast();
-        }
+        assertPositionIndex(size, array.length);
+        Arrays.fill(array, 0, size, null); // to help with garbage collection
+        size = 0;
     }
 
     @Override
@@ -184,6 +428,20 @@ public class DynamicArray<E> implements List<E> {
         }
     }
 
+    /**
+     * Creates a {@link Spliterator} over the elements of this list that splits by index, handing
+     * off the first half of its remaining range on every split without copying any element.
+     * The spliterator covers the elements of this list when it is created, so this list must not
+     * be modified while it is traversed.
+     *
+     * @return a new ordered and sized spliterator over the elements of this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        assertPositionIndex(size, array.length);
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new Iterator<>() {
@@ -0,0 +1,94 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import java.nio.ByteBuffer;
+
+public interface ElementLayout<E> {
+
+    /**
+     * Stores every element as a 4-byte {@code int}.
+     */
+    ElementLayout<Integer> INT = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+    };
+
+    /**
+     * Stores every element as an 8-byte {@code long}.
+     */
+    ElementLayout<Long> LONG = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+    };
+
+    /**
+     * Stores every element as an 8-byte {@code double}.
+     */
+    ElementLayout<Double> DOUBLE = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+    };
+
+    /**
+     * Retrieves the number of bytes every element takes, which must be a power of 2 and at most
+     * 8, so that no element spans two chunks of memory.
+     *
+     * @return the size of an element in bytes
+     */
+    int byteSize();
+
+    /**
+     * Reads the element stored at byte {@code offset} of {@code buffer}.
+     *
+     * @param buffer the buffer holding the element
+     * @param offset the offset of the first byte of the element
+     *
+     * @return the element read
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Writes {@code element} at byte {@code offset} of {@code buffer}.
+     *
+     * @param buffer the buffer to hold the element
+     * @param offset the offset of the first byte of the element
+     * @param element the element to be written, which is not {@code null}
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+}
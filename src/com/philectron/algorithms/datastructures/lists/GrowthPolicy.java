@@ -0,0 +1,108 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public interface GrowthPolicy {
+
+    /**
+     * Computes the new capacity of an array that is too small to hold {@code minCapacity}
+     * elements.
+     *
+     * @param capacity the current capacity of the array
+     * @param minCapacity the number of elements the array must be able to hold, which is greater
+     *        than {@code capacity}
+     *
+     * @return the new capacity, which is at least {@code minCapacity}
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Computes the new capacity of an array after elements were removed from it. By default, an
+     * array never shrinks.
+     *
+     * @param capacity the current capacity of the array
+     * @param size the number of elements left in the array
+     *
+     * @return the new capacity, which is at least {@code size} and at most {@code capacity}
+     */
+    default int shrink(int capacity, int size) {
+        return capacity;
+    }
+
+    /**
+     * Creates a policy that grows like this one, and also halves the capacity whenever at most a
+     * quarter of it is in use.
+     *
+     * <p>
+     * Shrinking only at a quarter instead of at half keeps a gap between the sizes at which an
+     * array grows and shrinks, so alternately adding and removing an element at either threshold
+     * does not reallocate every time. After shrinking, the array is about half full, so it takes
+     * a number of insertions or removals proportional to its capacity to reallocate again.
+     * </p>
+     *
+     * @return the new shrinking policy
+     */
+    default GrowthPolicy withShrinking() {
+        final GrowthPolicy growth = this;
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                return growth.grow(capacity, minCapacity);
+            }
+
+            @Override
+            public int shrink(int capacity, int size) {
+                int newCapacity = capacity;
+                while (newCapacity > 1 && size <= newCapacity / 4) {
+                    newCapacity /= 2;
+                }
+                return newCapacity;
+            }
+        };
+    }
+
+    /**
+     * Creates a policy that doubles the capacity, so that appending {@code n} elements copies
+     * fewer than {@code 2n} elements in total, while up to half of the capacity may be unused.
+     *
+     * @return the new doubling policy
+     */
+    static GrowthPolicy doubling() {
+        return multiplying(2);
+    }
+
+    /**
+     * Creates a policy that multiplies the capacity by {@code factor}. A smaller factor wastes
+     * less memory, at most {@code 1 - 1 / factor} of the capacity, but reallocates more often.
+     *
+     * @param factor the factor to multiply the capacity by
+     *
+     * @return the new multiplying policy
+     *
+     * @throws IllegalArgumentException if {@code factor} is not greater than 1
+     */
+    static GrowthPolicy multiplying(double factor) {
+        checkArgument(factor > 1, "Growth factor must be greater than 1");
+        return (capacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE,
+                Math.max(minCapacity, (long) Math.ceil(capacity * factor)));
+    }
+
+    /**
+     * Creates a policy that adds {@code increment} to the capacity. At most {@code increment}
+     * elements of capacity are unused, but appending {@code n} elements copies about
+     * {@code n * n / (2 * increment)} elements in total, so this policy suits lists whose final
+     * size is roughly known.
+     *
+     * @param increment the number of elements to add to the capacity
+     *
+     * @return the new incrementing policy
+     *
+     * @throws IllegalArgumentException if {@code increment} is not positive
+     */
+    static GrowthPolicy incrementing(int increment) {
+        checkArgument(increment > 0, "Growth increment must be positive");
+        return (capacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE,
+                Math.max(minCapacity, (long) capacity + increment));
+    }
+
+}
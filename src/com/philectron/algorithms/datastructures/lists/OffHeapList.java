@@ -0,0 +1,667 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+import com.philectron.algorithms.datastructures.interfaces.List;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+public class OffHeapList<E> implements List<E>, AutoCloseable {
+
+    // 1 Mi elements per chunk, so that even a list of billions of elements has few chunks.
+    static final int DEFAULT_CHUNK_SHIFT = 20;
+
+    // The first chunk starts this small, and doubles until it holds a full chunk of elements.
+    static final int MIN_FIRST_CHUNK_CAPACITY = 16;
+
+    // A direct buffer holds at most 2 GiB, so a chunk holds at most 1 GiB.
+    private static final int MAX_CHUNK_BYTES_SHIFT = 30;
+
+    private final ElementLayout<E> layout;
+    private final int elementShift; // the element size in bytes is 2^elementShift
+    private final int chunkShift; // every chunk holds 2^chunkShift elements
+    private final long chunkMask;
+
+    // Chunks are allocated as the list grows, and never move once allocated.
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private long capacity; // the number of elements the allocated chunks can hold
+    private long size;
+    private boolean closed;
+
+    /**
+     * Initializes an empty off-heap list of elements stored in {@code layout}.
+     *
+     * @param layout the layout of every element in memory
+     *
+     * @throws NullPointerException if {@code layout} is {@code null}
+     */
+    public OffHeapList(ElementLayout<E> layout) {
+        this(layout, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Initializes an off-heap list of elements stored in {@code layout}, with all elements copied
+     * from {@code iterable}.
+     *
+     * @param layout the layout of every element in memory
+     * @param iterable the {@link Iterable} whose elements are to be copied to this list
+     *
+     * @throws NullPointerException if {@code layout} or {@code iterable} is {@code null}, or if
+     *         any of the elements in {@code iterable} is {@code null}
+     */
+    public OffHeapList(ElementLayout<E> layout, Iterable<? extends E> iterable) {
+        this(layout);
+        addAll(iterable);
+    }
+
+    /**
+     * Initializes an empty off-heap list in chunks of {@code 2^chunkShift} elements. Intended for
+     * tests, which need chunk boundaries without allocating large chunks.
+     *
+     * <p>
+     * The elements are stored in direct byte buffers, outside of the heap, in chunks of a fixed
+     * number of elements that are allocated as the list grows. The garbage collector only ever
+     * sees one small buffer object per chunk, no matter how many elements the list holds, so a
+     * list much larger than the heap neither needs heap space nor lengthens collection pauses.
+     * Elements are indexed by {@code long}, so the list can hold more than
+     * {@link Integer#MAX_VALUE} elements through the methods taking or returning a
+     * {@code long} index, while the methods of {@link List} only reach the first
+     * {@link Integer#MAX_VALUE} elements. So that a small list takes little memory, the first
+     * chunk starts small and is reallocated with double the size until it is full-sized. Growing
+     * never copies elements after that, since the other chunks never move once allocated.
+     * </p>
+     *
+     * <p>
+     * Elements are boxed on the way in and out of the list, and {@code null} elements are not
+     * permitted. The memory is released when the chunks are garbage collected, which
+     * {@link #close()} allows right away, instead of once the list itself is unreachable. The
+     * direct memory of the whole JVM is limited by the {@code -XX:MaxDirectMemorySize} option,
+     * which defaults to the maximum heap size, so a list larger than the heap needs a larger
+     * limit. Growing beyond the limit throws an {@link OutOfMemoryError} naming the option.
+     * </p>
+     *
+     * @param layout the layout of every element in memory
+     * @param chunkShift the base 2 logarithm of the number of elements per chunk
+     *
+     * @throws NullPointerException if {@code layout} is {@code null}
+     * @throws IllegalArgumentException if the element size of {@code layout} is not a power of 2
+     *         of at most 8 bytes, or if {@code chunkShift} is negative or makes a chunk larger
+     *         than 1 GiB
+     */
+    OffHeapList(ElementLayout<E> layout, int chunkShift) {
+        checkNotNull(layout);
+        final int byteSize = layout.byteSize();
+        checkArgument(byteSize > 0 && byteSize <= Long.BYTES && Integer.bitCount(byteSize) == 1,
+                "Element size must be a power of 2 of at most 8 bytes");
+        final int elementShift = Integer.numberOfTrailingZeros(byteSize);
+        checkArgument(chunkShift >= 0 && chunkShift + elementShift <= MAX_CHUNK_BYTES_SHIFT,
+                "Chunk size must be between 1 element and 1 GiB");
+
+        this.layout = layout;
+        this.elementShift = elementShift;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.chunks = new ByteBuffer[1];
+        this.chunkCount = 0;
+        this.capacity = 0;
+        this.size = 0;
+        this.closed = false;
+    }
+
+    /**
+     * Retrieves the size of this list, which may exceed {@link Integer#MAX_VALUE}.
+     *
+     * @return the number of elements in this list
+     */
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the size of this list, or {@link Integer#MAX_VALUE} if it holds more elements.
+     *
+     * @return the number of elements in this list, up to {@link Integer#MAX_VALUE}
+     *
+     * @see #longSize()
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the memory allocated outside of the heap for the chunks of this list.
+     *
+     * @return the memory footprint in bytes
+     */
+    public long getMemoryFootprintBytes() {
+        return capacity << elementShift;
+    }
+
+    @Override
+    public E get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Retrieves the element at index {@code index} of this list.
+     *
+     * @param index the index of the element to return
+     *
+     * @return the element at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #longSize()}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public E get(long index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        return read(index);
+    }
+
+    @Override
+    public E getLast() {
+        return get(size - 1);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return set((long) index, element);
+    }
+
+    /**
+     * Replaces the element at index {@code index} of this list with {@code element}.
+     *
+     * @param index the index of the element to replace
+     * @param element the new element to be stored at {@code index}
+     *
+     * @return the element previously at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #longSize()}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public E set(long index, E element) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        checkNotNull(element);
+        E oldValue = read(index);
+        write(index, element);
+        return oldValue;
+    }
+
+    @Override
+    public E setLast(E element) {
+        return set(size - 1, element);
+    }
+
+    @Override
+    public boolean add(int position, E element) {
+        return add((long) position, element);
+    }
+
+    /**
+     * Inserts {@code element} at index {@code position} of this list. Shifts the element currently
+     * at that index (if any) and any subsequent elements to the right (adds 1 to their indices).
+     *
+     * @param position the position index at which the new element is to be inserted
+     * @param element the element to be inserted at {@code position}
+     *
+     * @return {@code true} since {@code element} is always inserted
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is negative or is greater than
+     *         {@link #longSize()}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public boolean add(long position, E element) {
+        checkOpen();
+        Objects.checkIndex(position, size + 1);
+        checkNotNull(element);
+
+        allocateChunks(size + 1);
+        moveElements(position, position + 1, size - position);
+        write(position, element);
+
+        ++size;
+        return true;
+    }
+
+    @Override
+    public boolean add(E element) {
+        return add(size, element);
+    }
+
+    @Override
+    public boolean addLast(E element) {
+        return add(size, element);
+    }
+
+    @Override
+    public int indexOf(E element) {
+        return toIntIndex(longIndexOf(element));
+    }
+
+    /**
+     * Finds the first occurrence of {@code element} in this list.
+     *
+     * @param element the element to be searched in this list
+     *
+     * @return the index of the first occurrence of {@code element}, or {@code -1} if this list
+     *         does not contain {@code element}, which is always the case for {@code null}
+     *
+     * @throws IllegalStateException if this list has been closed
+     */
+    public long longIndexOf(E element) {
+        checkOpen();
+        if (element == null) {
+            return -1; // null elements are never stored
+        }
+        for (long i = 0; i < size; ++i) {
+            if (element.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1; // not found
+    }
+
+    @Override
+    public int lastIndexOf(E element) {
+        return toIntIndex(longLastIndexOf(element));
+    }
+
+    /**
+     * Finds the last occurrence of {@code element} in this list.
+     *
+     * @param element the element to be searched in this list
+     *
+     * @return the index of the last occurrence of {@code element}, or {@code -1} if this list
+     *         does not contain {@code element}, which is always the case for {@code null}
+     *
+     * @throws IllegalStateException if this list has been closed
+     */
+    public long longLastIndexOf(E element) {
+        checkOpen();
+        if (element == null) {
+            return -1; // null elements are never stored
+        }
+        for (long i = size - 1; i >= 0; --i) {
+            if (element.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1; // not found
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return longIndexOf(element) >= 0;
+    }
+
+    @Override
+    public E remove(int index) {
+        return removeAt(index);
+    }
+
+    /**
+     * Removes the element at index {@code index} of this list. Shifts any subsequent elements to
+     * the left (subtracts 1 from their indices).
+     *
+     * <p>
+     * Unlike the other methods taking a {@code long} index, this one is not an overload of its
+     * {@code int} counterpart, since {@code remove(5L)} on an {@code OffHeapList<Long>} would
+     * then remove the element at index 5 instead of the element 5.
+     * </p>
+     *
+     * @param index the index of the element to be removed
+     *
+     * @return the element previously at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #longSize()}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public E removeAt(long index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+
+        E oldValue = read(index);
+        moveElements(index + 1, index, size - index - 1);
+
+        --size;
+        return oldValue;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        final long index = longIndexOf(element);
+        if (index == -1) {
+            return false; // element not found, list was unmodified
+        }
+
+        removeAt(index);
+
+        return true; // element found, list was modified
+    }
+
+    @Override
+    public E removeLast() {
+        return removeAt(size - 1);
+    }
+
+    /**
+     * Removes all elements from this list, keeping the allocated chunks so the list can be
+     * refilled without allocating.
+     *
+     * @throws IllegalStateException if this list has been closed
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    @Override
+    public void reverse() {
+        checkOpen();
+
+        long left = 0;
+        long right = size - 1;
+        while (left < right) {
+            E tmp = read(left);
+            write(left, read(right));
+            write(right, tmp);
+            ++left;
+            --right;
+        }
+    }
+
+    /**
+     * Drops all chunks of this list, so that their memory is released at the next garbage
+     * collection. This list cannot be used after it has been closed, but closing it again has no
+     * effect.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        chunks = new ByteBuffer[0];
+        chunkCount = 0;
+        capacity = 0;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new Iterator<>() {
+            private long currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Iterator has no more elements");
+                }
+                return read(currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements of this list that splits by index, handing
+     * off the first half of its remaining range on every split without copying any element, so
+     * a parallel stream can process more than {@link Integer#MAX_VALUE} elements. This list must
+     * not be modified or closed while it is traversed.
+     *
+     * @return a new ordered and sized spliterator over the elements of this list
+     *
+     * @throws IllegalStateException if this list has been closed
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        checkOpen();
+        return new IndexSpliterator<>(this, 0, size);
+    }
+
+    /**
+     * Checks that this list has not been closed.
+     *
+     * @throws IllegalStateException if this list has been closed
+     */
+    private void checkOpen() {
+        checkState(!closed, "Off-heap list has been closed");
+    }
+
+    /**
+     * Allocates chunks until this list can hold {@code minCapacity} elements.
+     *
+     * @param minCapacity the number of elements this list must be able to hold
+     */
+    private void allocateChunks(long minCapacity) {
+        assertNotNull(chunks);
+        if (minCapacity <= capacity) {
+            return;
+        }
+
+        final long chunkCapacity = 1L << chunkShift;
+        if (capacity < chunkCapacity) {
+            // Only the first chunk exists, if any, and it is not full-sized yet.
+            final long firstCapacity = Math.min(chunkCapacity,
+                    Math.max(minCapacity, Math.max(MIN_FIRST_CHUNK_CAPACITY, 2 * capacity)));
+            ByteBuffer firstChunk = allocateChunk((int) firstCapacity << elementShift);
+            if (chunkCount > 0) {
+                firstChunk.put(0, chunks[0], 0, (int) size << elementShift);
+            }
+            chunks[0] = firstChunk;
+            chunkCount = 1;
+            capacity = firstCapacity;
+        }
+
+        while (capacity < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, 2 * chunks.length);
+            }
+            chunks[chunkCount++] = allocateChunk((int) chunkCapacity << elementShift);
+            capacity += chunkCapacity;
+        }
+    }
+
+    /**
+     * Allocates a chunk of {@code byteSize} bytes outside of the heap.
+     *
+     * @param byteSize the size of the chunk in bytes
+     *
+     * @return the new chunk, in the native byte order
+     *
+     * @throws OutOfMemoryError if the direct memory limit of the JVM is reached
+     */
+    private static ByteBuffer allocateChunk(int byteSize) {
+        try {
+            return ByteBuffer.allocateDirect(byteSize).order(ByteOrder.nativeOrder());
+        } catch (OutOfMemoryError e) {
+            OutOfMemoryError error = new OutOfMemoryError("Cannot allocate " + byteSize
+                    + " bytes outside of the heap for an off-heap list, raise the direct memory"
+                    + " limit with -XX:MaxDirectMemorySize");
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    /**
+     * Moves {@code count} elements starting at index {@code from} to start at index {@code to},
+     * one block move per stretch of elements that stays within one chunk on both sides. The
+     * ranges may overlap, and the chunks of the destination range must already be allocated.
+     *
+     * @param from the index of the first element to be moved
+     * @param to the index the first element is moved to
+     * @param count the number of elements to be moved
+     */
+    private void moveElements(long from, long to, long count) {
+        final long chunkSize = chunkMask + 1;
+        if (from < to) {
+            // Move from the back, so no element is overwritten before it is moved.
+            long remaining = count;
+            while (remaining > 0) {
+                final long srcEnd = from + remaining;
+                final long dstEnd = to + remaining;
+                final long length = Math.min(remaining, Math.min(((srcEnd - 1) & chunkMask) + 1,
+                        ((dstEnd - 1) & chunkMask) + 1));
+                copyWithinChunks(srcEnd - length, dstEnd - length, (int) length);
+                remaining -= length;
+            }
+        } else if (from > to) {
+            long moved = 0;
+            while (moved < count) {
+                final long src = from + moved;
+                final long dst = to + moved;
+                final long length = Math.min(count - moved, Math.min(
+                        chunkSize - (src & chunkMask), chunkSize - (dst & chunkMask)));
+                copyWithinChunks(src, dst, (int) length);
+                moved += length;
+            }
+        }
+    }
+
+    /**
+     * Copies {@code length} elements starting at index {@code from} to start at index
+     * {@code to}, where neither range crosses a chunk boundary.
+     *
+     * @param from the index of the first element to be copied
+     * @param to the index the first element is copied to
+     * @param length the number of elements to be copied
+     */
+    private void copyWithinChunks(long from, long to, int length) {
+        // An absolute bulk put copies as if through an intermediate buffer, so the ranges may
+        // overlap within one chunk.
+        chunkOf(to).put(offsetOf(to), chunkOf(from), offsetOf(from), length << elementShift);
+    }
+
+    /**
+     * Reads the element at {@code index}, which must be less than the number of allocated
+     * elements.
+     *
+     * @param index the index of the element to be read
+     *
+     * @return the element at {@code index}
+     */
+    private E read(long index) {
+        return layout.read(chunkOf(index), offsetOf(index));
+    }
+
+    /**
+     * Writes {@code element} at {@code index}, which must be less than the number of allocated
+     * elements.
+     *
+     * @param index the index of the element to be written
+     * @param element the element to be written
+     */
+    private void write(long index, E element) {
+        layout.write(chunkOf(index), offsetOf(index), assertNotNull(element));
+    }
+
+    /**
+     * Finds the chunk holding the element at {@code index}.
+     *
+     * @param index the index of an element
+     *
+     * @return the chunk of the element
+     */
+    private ByteBuffer chunkOf(long index) {
+        return chunks[(int) (index >>> chunkShift)];
+    }
+
+    /**
+     * Finds the byte offset of the element at {@code index} within its chunk.
+     *
+     * @param index the index of an element
+     *
+     * @return the offset of the first byte of the element
+     */
+    private int offsetOf(long index) {
+        return (int) (index & chunkMask) << elementShift;
+    }
+
+    /**
+     * Narrows an index returned by a search to an {@code int}.
+     *
+     * @param index the index found, or {@code -1}
+     *
+     * @return {@code index} as an {@code int}
+     *
+     * @throws IllegalStateException if {@code index} is greater than {@link Integer#MAX_VALUE}
+     */
+    private static int toIntIndex(long index) {
+        checkState(index <= Integer.MAX_VALUE, "Index does not fit in an int");
+        return (int) index;
+    }
+
+    private static class IndexSpliterator<E> implements Spliterator<E> {
+        private final OffHeapList<E> list; // the list whose elements are traversed
+        private long index; // the index of the next element to be traversed
+        private final long fence; // the index after the last element to be traversed
+
+        private IndexSpliterator(OffHeapList<E> list, long index, long fence) {
+            this.list = list;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            checkNotNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(list.read(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            checkNotNull(action);
+            long i = index;
+            index = fence;
+            for (; i < fence; ++i) {
+                action.accept(list.read(i));
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            final long mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null; // too few elements to split
+            }
+            Spliterator<E> prefix = new IndexSpliterator<>(list, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+}
@@ -93,4 +93,46 @@ public final class Assertion {
         return position;
     }
 
+    /**
+     * Ensures that {@code position} specifies a valid <i>position</i> in a sequence of size
+     * {@code size} indexed by {@code long}. A position index may range from zero, inclusive, to
+     * {@code size}, inclusive.
+     *
+     * @param position the index identifying a position in a sequence
+     * @param size the size of that sequence
+     *
+     * @return the value of {@code position}, for convenience
+     *
+     * @throws AssertionError if {@code size} is negative, or if {@code position} is negative or is
+     *         greater than {@code size}
+     *
+     * @see #assertPositionIndex(int, int)
+     */
+    public static long assertPositionIndex(long position, long size) {
+        assert size >= 0;
+        assert 0 <= position && position <= size;
+        return position;
+    }
+
+    /**
+     * Ensures that {@code start} and {@code end} specify a valid range of <i>positions</i> in a
+     * sequence of size {@code size} indexed by {@code long}, and are in order (can be equal). A
+     * position index may range from zero, inclusive, to {@code size}, inclusive.
+     *
+     * @param start the index identifying the starting position of the range, inclusive
+     * @param end the index identifying the ending position of the range, exclusive
+     * @param size the size of that sequence
+     *
+     * @throws AssertionError if {@link #assertPositionIndex(long start, long size)} fails, or if
+     *         {@link #assertPositionIndex(long end, long size)} fails, or if {@code start} is
+     *         greater than {@code end}
+     *
+     * @see #assertPositionIndex(long, long)
+     */
+    public static void assertPositionIndexes(long start, long end, long size) {
+        assertPositionIndex(start, size);
+        assertPositionIndex(end, size);
+        assert start <= end;
+    }
+
 }
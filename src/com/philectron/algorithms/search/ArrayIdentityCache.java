@@ -0,0 +1,154 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+class ArrayIdentityCache<V> {
+
+    // Lookups of the most recently looked up array skip the cache, except for every this many
+    // lookups, which go through the cache anyway to record the access for the eviction order, and
+    // to notice if the array was evicted.
+    static final int MEMO_ACCESS_INTERVAL = 64;
+
+    private final LoadingCache<int[], V> cache;
+
+    // Counts the calls to invalidate(), so that a lookup racing with one does not publish a value
+    // it read from the cache before the invalidation.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // The most recently looked up array, so repeated lookups of one array skip the cache, which
+    // also allocates to record the access order.
+    private volatile LastLookup<V> lastLookup;
+
+    /**
+     * Initializes a bounded cache of values computed from arrays.
+     *
+     * <p>
+     * Arrays are compared by identity rather than by their elements, and are only held weakly,
+     * so an array that is no longer used elsewhere can still be garbage collected along with its
+     * value. When the cache is full, the least recently looked up array is evicted first.
+     * </p>
+     *
+     * @param maximumSize the maximum number of arrays to keep values for
+     * @param loader the function computing the value of an array on its first lookup
+     *
+     * @throws NullPointerException if {@code loader} is {@code null}
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    ArrayIdentityCache(long maximumSize, Function<int[], V> loader) {
+        checkArgument(maximumSize > 0, "Maximum number of cached arrays must be positive");
+        checkNotNull(loader);
+        this.cache = CacheBuilder.newBuilder()
+                .weakKeys() // also makes the cache compare arrays by identity
+                .maximumSize(maximumSize)
+                .build(CacheLoader.from(loader::apply));
+    }
+
+    /**
+     * Retrieves the value of {@code array}, computing it on the first lookup of {@code array} or
+     * after it was evicted.
+     *
+     * @param array the array whose value is to be retrieved
+     *
+     * @return the value of {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    V get(int[] array) {
+        checkNotNull(array);
+
+        // Read before the cache, so that any invalidation completing after the cache read below
+        // has a later count.
+        final long invalidationCount = invalidations.get();
+
+        LastLookup<V> last = lastLookup;
+        if (last != null && last.get() == array && last.invalidationCount == invalidationCount
+                && ++last.hits < MEMO_ACCESS_INTERVAL) {
+            V value = last.value.get();
+            if (value != null) {
+                return value;
+            }
+        }
+
+        V value = load(array);
+        lastLookup = new LastLookup<>(array, value, invalidationCount);
+        return value;
+    }
+
+    /**
+     * Retrieves the value of {@code array} from the cache, bypassing the last lookup. Intended to
+     * be overridden by tests, which need to interleave invalidations with lookups.
+     *
+     * @param array the array whose value is to be retrieved
+     *
+     * @return the value of {@code array}
+     */
+    V load(int[] array) {
+        return cache.getUnchecked(array);
+    }
+
+    /**
+     * Retrieves the value of {@code array} if it was already computed, without computing it.
+     *
+     * @param array the array whose value is to be retrieved
+     *
+     * @return the value of {@code array}, or {@code null} if it has none
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    V getIfPresent(int[] array) {
+        checkNotNull(array);
+        return cache.getIfPresent(array);
+    }
+
+    /**
+     * Discards the value of {@code array}, so that the next lookup computes it again.
+     *
+     * @param array the array whose value is to be discarded
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    void invalidate(int[] array) {
+        checkNotNull(array);
+        LastLookup<V> last = lastLookup;
+        if (last != null && last.get() == array) {
+            lastLookup = null;
+        }
+        cache.invalidate(array);
+
+        // Counted after the cache is invalidated, so that lookups that read the count since then
+        // also read the cache since then, and lookups that read it before never serve their value
+        // from the last lookup again.
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Releases the values of arrays that were garbage collected, which the cache otherwise does
+     * during later lookups.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private static class LastLookup<V> extends WeakReference<int[]> {
+        // The value of the referenced array, held weakly so that it is released once the cache
+        // drops the array.
+        private final WeakReference<V> value;
+        private final long invalidationCount; // the invalidations before the cache lookup
+        private int hits; // lookups answered since the cache lookup, racy since it is a hint
+
+        private LastLookup(int[] array, V value, long invalidationCount) {
+            super(array);
+            this.value = new WeakReference<>(value);
+            this.invalidationCount = invalidationCount;
+        }
+    }
+
+}
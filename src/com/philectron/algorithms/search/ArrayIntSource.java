@@ -0,0 +1,33 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Objects;
+
+public class ArrayIntSource implements IntSource {
+
+    private final int[] array;
+
+    /**
+     * Initializes a source that reads from {@code array} directly, without copying it, so
+     * changes to {@code array} are visible through this source.
+     *
+     * @param array the backing array
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public ArrayIntSource(int[] array) {
+        this.array = checkNotNull(array);
+    }
+
+    @Override
+    public long size() {
+        return array.length;
+    }
+
+    @Override
+    public int get(long index) {
+        return array[(int) Objects.checkIndex(index, array.length)];
+    }
+
+}
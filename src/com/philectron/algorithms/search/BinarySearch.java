@@ -1,9 +1,28 @@
 package com.philectron.algorithms.search;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertPositionIndex;
+import static com.philectron.algorithms.logic.Assertion.assertPositionIndexes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class BinarySearch implements SearchAlgorithm {
 
+    // Smaller batches are not worth sorting, so their targets are searched one by one.
+    static final int MIN_SORTED_BATCH_SIZE = 64;
+
+    // Larger batches are sorted and merged on multiple cores.
+    static final int MIN_PARALLEL_BATCH_SIZE = 1 << 14;
+
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+
     @Override
     public int findFirst(int[] sortedArray, int target) {
         checkNotNull(sortedArray);
@@ -78,4 +97,813 @@ public class BinarySearch implements SearchAlgorithm {
         return -1;
     }
 
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return lowerBound(sortedArray, 0, sortedArray.length, target);
+    }
+
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return upperBound(sortedArray, 0, sortedArray.length, target);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Shares the search for both ends of the range, see
+     * {@link #searchRange(int[], int, int)}.
+     * </p>
+     */
+    @Override
+    public IndexRange equalRange(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return searchRange(sortedArray, target, target);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Shares the search for both ends of the range, see
+     * {@link #searchRange(int[], int, int)}.
+     * </p>
+     */
+    @Override
+    public int countInRange(int[] sortedArray, int low, int high) {
+        checkNotNull(sortedArray);
+        checkArgument(low <= high, "Range [%s, %s] is empty", low, high);
+        return searchRange(sortedArray, low, high).length();
+    }
+
+    /**
+     * Finds the range of elements of {@code sortedArray} that are between {@code low} and
+     * {@code high}, both inclusive.
+     *
+     * <p>
+     * Searching for the two ends separately would walk the same path from the full array twice
+     * until the paths split. Instead, a single search narrows the window while its middle element
+     * is outside {@code [low, high]}. Once a middle element is inside, the lower end can only be
+     * to its left and the upper end only to its right, so each end is searched in its own half of
+     * the remaining window.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param low the smallest value in the range
+     * @param high the largest value in the range, not less than {@code low}
+     *
+     * @return the range from the lower bound of {@code low} to the upper bound of {@code high}
+     */
+    private static IndexRange searchRange(int[] sortedArray, int low, int high) {
+        assertNotNull(sortedArray);
+
+        // The range is always within [from, to).
+        int from = 0;
+        int to = sortedArray.length;
+
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (sortedArray[mid] < low) {
+                from = mid + 1;
+            } else if (sortedArray[mid] > high) {
+                to = mid;
+            } else {
+                // The paths split here.
+                return new IndexRange(lowerBound(sortedArray, from, mid, low),
+                        upperBound(sortedArray, mid + 1, to, high));
+            }
+        }
+
+        return new IndexRange(from, from);
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray[from..to - 1]} whose element is greater than
+     * or equal to {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param from the starting index of the range, inclusive
+     * @param to the ending index of the range, exclusive
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element in the range that is not less than {@code target},
+     *         or {@code to} if every element in the range is less than {@code target}
+     */
+    private static int lowerBound(int[] sortedArray, int from, int to, int target) {
+        assertNotNull(sortedArray);
+        assertPositionIndex(from, to);
+        assertPositionIndex(to, sortedArray.length);
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray[from..to - 1]} whose element is greater than
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param from the starting index of the range, inclusive
+     * @param to the ending index of the range, exclusive
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element in the range that is greater than {@code target},
+     *         or {@code to} if every element in the range is less than or equal to {@code target}
+     */
+    private static int upperBound(int[] sortedArray, int from, int to, int target) {
+        assertNotNull(sortedArray);
+        assertPositionIndex(from, to);
+        assertPositionIndex(to, sortedArray.length);
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Instead of searching every target from scratch, sorts the targets and merges them against
+     * {@code sortedArray} in one forward pass. Each target gallops forward from where the previous
+     * target was found, so nearby targets touch the same cache lines, and the whole batch reads
+     * {@code sortedArray} at most once from start to end. Batches of at least
+     * {@value #MIN_PARALLEL_BATCH_SIZE} targets are sorted and merged in chunks on the common
+     * {@link ForkJoinPool}.
+     * </p>
+     */
+    @Override
+    public void findFirstAll(int[] sortedArray, int[] targets, int[] out) {
+        checkNotNull(sortedArray);
+        checkNotNull(targets);
+        checkNotNull(out);
+        checkArgument(out.length >= targets.length, "Output array is shorter than targets");
+
+        final int numTargets = targets.length;
+        if (numTargets < MIN_SORTED_BATCH_SIZE) {
+            SearchAlgorithm.super.findFirstAll(sortedArray, targets, out);
+            return;
+        }
+
+        // Pack each target with its position in the batch, so sorting by target keeps track of
+        // where its result goes. Positions are non-negative, so the target alone decides the order
+        // of the packed values.
+        long[] queries = new long[numTargets];
+        for (int i = 0; i < numTargets; ++i) {
+            queries[i] = (long) targets[i] << Integer.SIZE | i;
+        }
+
+        if (numTargets < MIN_PARALLEL_BATCH_SIZE) {
+            Arrays.sort(queries);
+            mergeQueries(sortedArray, queries, 0, numTargets, out);
+            return;
+        }
+
+        Arrays.parallelSort(queries);
+
+        // Each chunk of sorted queries merges against the array on its own.
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int numChunks =
+                Math.max(1, Math.min(4 * pool.getParallelism(), numTargets / MIN_CHUNK_SIZE));
+        final int chunkSize = (numTargets + numChunks - 1) / numChunks;
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(numChunks);
+        for (int chunk = 0; chunk < numChunks; ++chunk) {
+            final int chunkFrom = chunk * chunkSize;
+            final int chunkTo = Math.min(chunkFrom + chunkSize, numTargets);
+            tasks.add(ForkJoinTask.adapt(
+                    () -> mergeQueries(sortedArray, queries, chunkFrom, chunkTo, out)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /**
+     * Searches the packed queries in {@code queries[from..to - 1]}, which are sorted by target, in
+     * one forward pass over {@code sortedArray}, and stores each result at the query's position
+     * in {@code out}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param queries the sorted queries, each packing a target in the high 32 bits and its
+     *        position in the batch in the low 32 bits
+     * @param from the starting query index, inclusive
+     * @param to the ending query index, exclusive
+     * @param out the array to store the found indices into
+     */
+    private static void mergeQueries(int[] sortedArray, long[] queries, int from, int to,
+            int[] out) {
+        assertNotNull(sortedArray);
+        assertNotNull(queries);
+        assertNotNull(out);
+        assertPositionIndex(from, to);
+        assertPositionIndex(to, queries.length);
+
+        final int n = sortedArray.length;
+
+        // Targets only grow, so the lower bound of each target is at or after the previous one.
+        int position = 0;
+        for (int q = from; q < to; ++q) {
+            final int target = (int) (queries[q] >> Integer.SIZE);
+            position = gallop(sortedArray, position, target);
+            out[(int) queries[q]] = position < n && sortedArray[position] == target ? position : -1;
+        }
+    }
+
+    /**
+     * Finds the first position at or after {@code from} whose element is greater than or equal to
+     * {@code target}, by probing positions {@code from + 1, from + 2, from + 4, ...} until one
+     * overshoots, then binary searching the last gap. Takes {@code O(log d)} steps, where
+     * {@code d} is the distance from {@code from} to the result.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param from the position to start from, where all elements before it are less than
+     *        {@code target}
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int gallop(int[] sortedArray, int from, int target) {
+        assertNotNull(sortedArray);
+        assertPositionIndex(from, sortedArray.length);
+
+        final int n = sortedArray.length;
+        if (from == n || sortedArray[from] >= target) {
+            return from;
+        }
+
+        // sortedArray[low] is always less than the target, and the result is within (low, high].
+        // The step stops doubling at the end of the array, so low + step never overflows.
+        int low = from;
+        int step = 1;
+        while (step < n - low && sortedArray[low + step] < target) {
+            low += step;
+            step = step < (n - low) / 2 ? 2 * step : n - low;
+        }
+        int high = low + step;
+
+        while (high - low > 1) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+
+        return high;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code sortedArray}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code sortedArray}, or
+     *         {@code -1} if {@code target} is not in {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public int findFirst(long[] sortedArray, long target) {
+        checkNotNull(sortedArray);
+
+        final int index = lowerBound(sortedArray, target);
+        return index < sortedArray.length && sortedArray[index] == target ? index : -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code sortedArray}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in
+     *         {@code sortedArray}, or {@code -1} if {@code target} is not in
+     *         {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public int findLast(long[] sortedArray, long target) {
+        checkNotNull(sortedArray);
+
+        final int index = upperBound(sortedArray, target) - 1;
+        return index >= 0 && sortedArray[index] == target ? index : -1;
+    }
+
+    /**
+     * Checks if {@code sortedArray} contains {@code target}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return {@code true} if {@code sortedArray} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public boolean contains(long[] sortedArray, long target) {
+        return findFirst(sortedArray, target) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code sortedArray}.
+     *
+     * <p>
+     * Elements are compared as by {@link Double#compare(double, double)}, which is the order
+     * {@link Arrays#sort(double[])} sorts in, so {@code NaN} matches {@code NaN} while
+     * {@code -0.0} does not match {@code 0.0}.
+     * </p>
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code sortedArray}, or
+     *         {@code -1} if {@code target} is not in {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public int findFirst(double[] sortedArray, double target) {
+        checkNotNull(sortedArray);
+
+        final int index = lowerBound(sortedArray, target);
+        return index < sortedArray.length && Double.compare(sortedArray[index], target) == 0
+                ? index
+                : -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code sortedArray}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in
+     *         {@code sortedArray}, or {@code -1} if {@code target} is not in
+     *         {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public int findLast(double[] sortedArray, double target) {
+        checkNotNull(sortedArray);
+
+        final int index = upperBound(sortedArray, target) - 1;
+        return index >= 0 && Double.compare(sortedArray[index], target) == 0 ? index : -1;
+    }
+
+    /**
+     * Checks if {@code sortedArray} contains {@code target}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return {@code true} if {@code sortedArray} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public boolean contains(double[] sortedArray, double target) {
+        return findFirst(sortedArray, target) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code sortedArray}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code sortedArray}, or
+     *         {@code -1} if {@code target} is not in {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public int findFirst(char[] sortedArray, char target) {
+        checkNotNull(sortedArray);
+
+        final int index = lowerBound(sortedArray, target);
+        return index < sortedArray.length && sortedArray[index] == target ? index : -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code sortedArray}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in
+     *         {@code sortedArray}, or {@code -1} if {@code target} is not in
+     *         {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public int findLast(char[] sortedArray, char target) {
+        checkNotNull(sortedArray);
+
+        final int index = upperBound(sortedArray, target) - 1;
+        return index >= 0 && sortedArray[index] == target ? index : -1;
+    }
+
+    /**
+     * Checks if {@code sortedArray} contains {@code target}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return {@code true} if {@code sortedArray} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public boolean contains(char[] sortedArray, char target) {
+        return findFirst(sortedArray, target) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code sortedArray}, which is
+     * sorted by {@code comparator}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     * @param comparator the comparator {@code sortedArray} is sorted by
+     *
+     * @return the index of the first occurrence of {@code target} in {@code sortedArray}, or
+     *         {@code -1} if {@code target} is not in {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} or {@code comparator} is
+     *         {@code null}
+     */
+    public <T> int findFirst(T[] sortedArray, T target, Comparator<? super T> comparator) {
+        checkNotNull(sortedArray);
+        checkNotNull(comparator);
+
+        final int index = lowerBound(sortedArray, target, comparator);
+        return index < sortedArray.length && comparator.compare(sortedArray[index], target) == 0
+                ? index
+                : -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code sortedArray}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     * @param comparator the comparator {@code sortedArray} is sorted by
+     *
+     * @return the index of the last (final) occurrence of {@code target} in
+     *         {@code sortedArray}, or {@code -1} if {@code target} is not in
+     *         {@code sortedArray}
+     *
+     * @throws NullPointerException if {@code sortedArray} or {@code comparator} is
+     *         {@code null}
+     */
+    public <T> int findLast(T[] sortedArray, T target, Comparator<? super T> comparator) {
+        checkNotNull(sortedArray);
+        checkNotNull(comparator);
+
+        final int index = upperBound(sortedArray, target, comparator) - 1;
+        return index >= 0 && comparator.compare(sortedArray[index], target) == 0 ? index : -1;
+    }
+
+    /**
+     * Checks if {@code sortedArray} contains {@code target}.
+     *
+     * @param sortedArray the sorted array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedArray}
+     * @param comparator the comparator {@code sortedArray} is sorted by
+     *
+     * @return {@code true} if {@code sortedArray} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code sortedArray} or {@code comparator} is
+     *         {@code null}
+     */
+    public <T> boolean contains(T[] sortedArray, T target, Comparator<? super T> comparator) {
+        return findFirst(sortedArray, target, comparator) >= 0;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int lowerBound(long[] sortedArray, long target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than or equal to
+     *         {@code target}
+     */
+    private static int upperBound(long[] sortedArray, long target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int lowerBound(double[] sortedArray, double target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(sortedArray[mid], target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than or equal to
+     *         {@code target}
+     */
+    private static int upperBound(double[] sortedArray, double target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(sortedArray[mid], target) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int lowerBound(char[] sortedArray, char target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than or equal to
+     *         {@code target}
+     */
+    private static int upperBound(char[] sortedArray, char target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     * @param comparator the comparator {@code sortedArray} is sorted by
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static <T> int lowerBound(T[] sortedArray, T target, Comparator<? super T> comparator) {
+        assertNotNull(sortedArray);
+        assertNotNull(comparator);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedArray[mid], target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     * @param comparator the comparator {@code sortedArray} is sorted by
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than or equal to
+     *         {@code target}
+     */
+    private static <T> int upperBound(T[] sortedArray, T target, Comparator<? super T> comparator) {
+        assertNotNull(sortedArray);
+        assertNotNull(comparator);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedArray[mid], target) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code sortedSource}, such as a
+     * {@link MappedIntSource} over a file too large for an array.
+     *
+     * @param sortedSource the sorted source that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedSource}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code sortedSource}, or
+     *         {@code -1} if {@code target} is not in {@code sortedSource}
+     *
+     * @throws NullPointerException if {@code sortedSource} is {@code null}
+     */
+    public long findFirst(IntSource sortedSource, int target) {
+        checkNotNull(sortedSource);
+
+        final long index = lowerBound(sortedSource, 0, sortedSource.size(), target);
+        return index < sortedSource.size() && sortedSource.get(index) == target ? index : -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code sortedSource}.
+     *
+     * @param sortedSource the sorted source that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code sortedSource}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in
+     *         {@code sortedSource}, or {@code -1} if {@code target} is not in
+     *         {@code sortedSource}
+     *
+     * @throws NullPointerException if {@code sortedSource} is {@code null}
+     */
+    public long findLast(IntSource sortedSource, int target) {
+        checkNotNull(sortedSource);
+
+        final long index = upperBound(sortedSource, 0, sortedSource.size(), target) - 1;
+        return index >= 0 && sortedSource.get(index) == target ? index : -1;
+    }
+
+    /**
+     * Finds the first position in {@code sortedSource} within {@code [from, to)} whose element is
+     * greater than or equal to {@code target}.
+     *
+     * @param sortedSource the sorted source to be searched
+     * @param from the starting index of the range, inclusive
+     * @param to the ending index of the range, exclusive
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element in the range that is not less than {@code target},
+     *         or {@code to} if every element in the range is less than {@code target}
+     */
+    static long lowerBound(IntSource sortedSource, long from, long to, int target) {
+        assertNotNull(sortedSource);
+        assertPositionIndexes(from, to, sortedSource.size());
+
+        long low = from;
+        long high = to;
+        while (low < high) {
+            final long mid = (low + high) >>> 1;
+            if (sortedSource.get(mid) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in {@code sortedSource} within {@code [from, to)} whose element is
+     * greater than {@code target}.
+     *
+     * @param sortedSource the sorted source to be searched
+     * @param from the starting index of the range, inclusive
+     * @param to the ending index of the range, exclusive
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element in the range that is greater than {@code target},
+     *         or {@code to} if every element in the range is less than or equal to {@code target}
+     */
+    static long upperBound(IntSource sortedSource, long from, long to, int target) {
+        assertNotNull(sortedSource);
+        assertPositionIndexes(from, to, sortedSource.size());
+
+        long low = from;
+        long high = to;
+        while (low < high) {
+            final long mid = (low + high) >>> 1;
+            if (sortedSource.get(mid) <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
 }
@@ -0,0 +1,243 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class BlockedBloomFilter {
+
+    static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    // 8 longs make up a 64-byte cache line, so every probe of a key lands in one cache line.
+    static final int WORDS_PER_BLOCK = 8;
+    static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+
+    static final int MAX_HASH_FUNCTIONS = 16;
+
+    // The rate at which the bits per element grow while sizing a filter.
+    private static final double BITS_GROWTH_FACTOR = 1.05;
+
+    private final double falsePositiveProbability;
+    private final int numHashFunctions;
+    private final int numBlocks;
+
+    // Block b is made of the WORDS_PER_BLOCK words starting at words[b * WORDS_PER_BLOCK].
+    private final long[] words;
+
+    /**
+     * Builds a filter of the elements of {@code array} with a false positive probability of
+     * {@value #DEFAULT_FALSE_POSITIVE_PROBABILITY}.
+     *
+     * @param array the elements to be added to the filter
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public BlockedBloomFilter(int[] array) {
+        this(array, DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Builds a filter of the elements of {@code array}, which may be unsorted and may contain
+     * duplicates.
+     *
+     * <p>
+     * A Bloom filter sets a few bits chosen by hashing for every element, and reports a value as
+     * possibly present only if all of its bits are set, so it never misses an element but may
+     * report a value that was never added. This filter first hashes a value to a block of
+     * {@value #BITS_PER_BLOCK} bits, and then sets or tests all of its bits within that block,
+     * so a lookup reads a single cache line instead of one cache line per bit. Blocks fill up
+     * unevenly, which costs a slightly higher false positive rate than a classic Bloom filter of
+     * the same size.
+     * </p>
+     *
+     * @param array the elements to be added to the filter
+     * @param falsePositiveProbability the desired probability that a value not in {@code array}
+     *        is reported as possibly present
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     * @throws IllegalArgumentException if {@code falsePositiveProbability} is not strictly
+     *         between 0 and 1
+     */
+    public BlockedBloomFilter(int[] array, double falsePositiveProbability) {
+        checkNotNull(array);
+        checkArgument(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+                "False positive probability must be between 0 and 1");
+
+        // A classic Bloom filter needs -ln(p) / ln(2)^2 bits per element and ln(2) hash
+        // functions per bit per element to reach the false positive probability p. Blocks need
+        // more bits than that, so grow the bits until the estimate for blocks reaches p.
+        double bitsPerElement =
+                -Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        int numHashFunctions = optimalHashFunctions(bitsPerElement);
+        while (estimateFalsePositiveProbability(bitsPerElement, numHashFunctions)
+                > falsePositiveProbability) {
+            bitsPerElement *= BITS_GROWTH_FACTOR;
+            numHashFunctions = optimalHashFunctions(bitsPerElement);
+        }
+
+        final long numBits = (long) Math.ceil(array.length * bitsPerElement);
+        checkArgument(numBits <= (long) Integer.MAX_VALUE * Long.SIZE / 2,
+                "Filter would be too large");
+
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.numHashFunctions = numHashFunctions;
+        this.numBlocks = (int) Math.max(1, (numBits + BITS_PER_BLOCK - 1) / BITS_PER_BLOCK);
+        this.words = new long[numBlocks * WORDS_PER_BLOCK];
+
+        for (int element : array) {
+            add(element);
+        }
+    }
+
+    /**
+     * Retrieves the false positive probability this filter was built for.
+     *
+     * @return the desired false positive probability
+     */
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Retrieves the number of bits set or tested for every value.
+     *
+     * @return the number of hash functions
+     */
+    public int getHashFunctionCount() {
+        return numHashFunctions;
+    }
+
+    /**
+     * Retrieves the memory taken by the bits of this filter.
+     *
+     * @return the memory footprint in bytes
+     */
+    public long getMemoryFootprintBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * Checks if {@code value} might have been added to this filter.
+     *
+     * @param value the value to be checked
+     *
+     * @return {@code false} if {@code value} was definitely not added, or {@code true} if it was
+     *         added or is a false positive
+     */
+    public boolean mightContain(int value) {
+        final long hash = mix(value);
+        final int blockStart = blockOf(hash) * WORDS_PER_BLOCK;
+        long bits = hash;
+        for (int i = 0; i < numHashFunctions; ++i) {
+            bits = nextBits(bits);
+            final int bitInBlock = (int) bits & (BITS_PER_BLOCK - 1);
+            if ((words[blockStart + (bitInBlock >>> 6)] & (1L << bitInBlock)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the bits of {@code value}.
+     *
+     * @param value the value to be added
+     */
+    private void add(int value) {
+        final long hash = mix(value);
+        final int blockStart = blockOf(hash) * WORDS_PER_BLOCK;
+        long bits = hash;
+        for (int i = 0; i < numHashFunctions; ++i) {
+            bits = nextBits(bits);
+            final int bitInBlock = (int) bits & (BITS_PER_BLOCK - 1);
+            words[blockStart + (bitInBlock >>> 6)] |= 1L << bitInBlock;
+        }
+    }
+
+    /**
+     * Computes the number of hash functions that minimizes the false positive probability of a
+     * classic Bloom filter with {@code bitsPerElement} bits per element.
+     *
+     * @param bitsPerElement the number of bits per element
+     *
+     * @return the optimal number of hash functions, between 1 and {@value #MAX_HASH_FUNCTIONS}
+     */
+    private static int optimalHashFunctions(double bitsPerElement) {
+        return (int) Math.max(1,
+                Math.min(MAX_HASH_FUNCTIONS, Math.round(bitsPerElement * Math.log(2))));
+    }
+
+    /**
+     * Estimates the false positive probability of a blocked Bloom filter. The number of elements
+     * hashed to a block follows a Poisson distribution, and a block holding {@code i} elements
+     * behaves like a classic Bloom filter of {@value #BITS_PER_BLOCK} bits and {@code i}
+     * elements, so the estimate averages the classic probability over that distribution.
+     *
+     * @param bitsPerElement the number of bits per element
+     * @param numHashFunctions the number of hash functions
+     *
+     * @return the estimated false positive probability
+     */
+    private static double estimateFalsePositiveProbability(double bitsPerElement,
+            int numHashFunctions) {
+        final double meanElementsPerBlock = BITS_PER_BLOCK / bitsPerElement;
+        final double bitClearProbability = 1 - 1.0 / BITS_PER_BLOCK;
+        final int maxElements = (int) (meanElementsPerBlock + 10 * Math.sqrt(meanElementsPerBlock))
+                + 10;
+
+        double estimate = 0;
+        double poisson = Math.exp(-meanElementsPerBlock); // P(i elements) for i = 0
+        for (int i = 0; i <= maxElements; ++i) {
+            final double bitSetProbability =
+                    1 - Math.pow(bitClearProbability, (double) numHashFunctions * i);
+            estimate += poisson * Math.pow(bitSetProbability, numHashFunctions);
+            poisson *= meanElementsPerBlock / (i + 1);
+        }
+        return estimate;
+    }
+
+    /**
+     * Picks the block of a hash from its upper bits, by scaling them to the number of blocks
+     * instead of taking a remainder, which would need a division.
+     *
+     * @param hash the mixed hash of a value
+     *
+     * @return the index of the block of the value
+     */
+    private int blockOf(long hash) {
+        return (int) (((hash >>> 32) * numBlocks) >>> 32);
+    }
+
+    /**
+     * Derives the bits of the next hash function from those of the previous one with a xorshift
+     * step. Unlike double hashing, whose positions all follow from two values and start to
+     * repeat across elements once blocks hold many bits, every position comes out independent.
+     *
+     * @param bits the bits of the previous hash function, or the hash of the value
+     *
+     * @return the bits of the next hash function
+     */
+    private static long nextBits(long bits) {
+        bits ^= bits << 13;
+        bits ^= bits >>> 7;
+        bits ^= bits << 17;
+        return bits;
+    }
+
+    /**
+     * Spreads the bits of {@code value} over a 64-bit hash, using the finalizer of MurmurHash3.
+     *
+     * @param value the value to be hashed
+     *
+     * @return the hash of {@code value}
+     */
+    private static long mix(int value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
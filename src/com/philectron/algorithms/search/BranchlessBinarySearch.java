@@ -0,0 +1,149 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+
+public class BranchlessBinarySearch implements SearchAlgorithm {
+
+    // The number of searches run in lockstep, enough to keep several cache misses in flight.
+    static final int INTERLEAVE_FACTOR = 8;
+
+    @Override
+    public int findFirst(int[] sortedArray, int target) {
+        final int index = lowerBound(sortedArray, target);
+        return index < sortedArray.length && sortedArray[index] == target ? index : -1;
+    }
+
+    @Override
+    public int findLast(int[] sortedArray, int target) {
+        final int index = upperBound(sortedArray, target) - 1;
+        return index >= 0 && sortedArray[index] == target ? index : -1;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * <p>
+     * The search window halves on every iteration no matter how the comparison turns out, so the
+     * loop runs exactly {@code ceil(log2(n))} times and has no early exit. The comparison result
+     * only decides how far the window base moves, which the JIT compiler can turn into a
+     * conditional move instead of a hard-to-predict branch.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        int length = sortedArray.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        // The answer is always within [base, base + length].
+        int base = 0;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = sortedArray[base + half - 1] < target ? base + half : base;
+            length -= half;
+        }
+
+        return base + (sortedArray[base] < target ? 1 : 0);
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than
+     * {@code target}. Uses the same fixed-iteration loop as {@link #lowerBound(int[], int)}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than or equal to {@code target}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        int length = sortedArray.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        // The answer is always within [base, base + length].
+        int base = 0;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = sortedArray[base + half - 1] <= target ? base + half : base;
+            length -= half;
+        }
+
+        return base + (sortedArray[base] <= target ? 1 : 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Runs the searches of {@value #INTERLEAVE_FACTOR} targets at a time in lockstep. The loop of
+     * {@link #lowerBound(int[], int)} runs the same number of iterations for every target, so one
+     * iteration can advance all searches of a group. Their array reads do not depend on each
+     * other, so the CPU overlaps their cache misses instead of waiting for each one in turn.
+     * </p>
+     */
+    @Override
+    public void findFirstAll(int[] sortedArray, int[] targets, int[] out) {
+        checkNotNull(sortedArray);
+        checkNotNull(targets);
+        checkNotNull(out);
+        checkArgument(out.length >= targets.length, "Output array is shorter than targets");
+
+        final int n = sortedArray.length;
+        final int numTargets = targets.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, numTargets, -1);
+            return;
+        }
+
+        int[] group = new int[INTERLEAVE_FACTOR];
+        int[] bases = new int[INTERLEAVE_FACTOR];
+        int i = 0;
+        for (; i + INTERLEAVE_FACTOR <= numTargets; i += INTERLEAVE_FACTOR) {
+            // Copy the group first, in case out is the same array as targets.
+            System.arraycopy(targets, i, group, 0, INTERLEAVE_FACTOR);
+            Arrays.fill(bases, 0);
+
+            for (int length = n; length > 1; length -= length >>> 1) {
+                final int half = length >>> 1;
+                for (int j = 0; j < INTERLEAVE_FACTOR; ++j) {
+                    bases[j] = sortedArray[bases[j] + half - 1] < group[j]
+                            ? bases[j] + half
+                            : bases[j];
+                }
+            }
+
+            for (int j = 0; j < INTERLEAVE_FACTOR; ++j) {
+                final int index = bases[j] + (sortedArray[bases[j]] < group[j] ? 1 : 0);
+                out[i + j] = index < n && sortedArray[index] == group[j] ? index : -1;
+            }
+        }
+
+        // Search the remaining targets one by one.
+        for (; i < numTargets; ++i) {
+            out[i] = findFirst(sortedArray, targets[i]);
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CachedIndexSearch implements SearchAlgorithm {
+
+    static final long DEFAULT_MAXIMUM_CACHED_ARRAYS = 64;
+
+    // Smaller arrays fit into the L1 cache, where a binary search is already fast.
+    static final int MIN_INDEXED_SIZE = 1 << 10;
+
+    // An array must be searched at least this many times, and at least once per
+    // QUERIES_PER_ELEMENT_DIVISOR elements, before it is indexed. Building an index takes time
+    // linear in the array length, while every indexed query saves a constant number of cache
+    // misses, so the build pays off after a number of queries proportional to the length.
+    static final long MIN_QUERIES_TO_INDEX = 1 << 10;
+    static final int QUERIES_PER_ELEMENT_DIVISOR = 32;
+
+    // Arrays up to this size get an Eytzinger index, whose 2x memory overhead is still small.
+    static final int MAX_EYTZINGER_SIZE = 1 << 16;
+
+    // Larger arrays searched at least this often get a B+ tree index, which has the fastest
+    // lookups. Larger arrays searched less often get a learned index, which has the smallest
+    // memory overhead.
+    static final long HOT_QUERIES_PER_SECOND = 1_000_000;
+
+    private final BinarySearch binarySearch;
+    private final Ticker ticker;
+    private final Executor executor;
+    private final ArrayIdentityCache<ArrayStatistics> cache;
+
+    /**
+     * Initializes a cached index search that keeps indices for at most
+     * {@value #DEFAULT_MAXIMUM_CACHED_ARRAYS} arrays.
+     */
+    public CachedIndexSearch() {
+        this(DEFAULT_MAXIMUM_CACHED_ARRAYS);
+    }
+
+    /**
+     * Initializes a cached index search over sorted arrays.
+     *
+     * <p>
+     * Every array is tracked by identity in a bounded cache, which evicts the least recently
+     * searched arrays first, and which only holds its arrays weakly, so an array that is no
+     * longer used elsewhere can still be garbage collected along with its index. A newly seen
+     * array is cold, and is searched with a {@link BinarySearch} while its queries are counted.
+     * Once the array has been searched often enough to amortize building an index, an index is
+     * chosen by array size and observed query rate, built once, and used for all further
+     * queries:
+     * </p>
+     * <ul>
+     * <li>arrays of at most {@value #MAX_EYTZINGER_SIZE} elements get an
+     * {@link EytzingerIndex},</li>
+     * <li>larger arrays searched at least {@value #HOT_QUERIES_PER_SECOND} times per second get a
+     * {@link StaticBTreeIndex},</li>
+     * <li>and all other larger arrays get a {@link LearnedIndex}.</li>
+     * </ul>
+     * <p>
+     * Indices are built in the background on the common {@link ForkJoinPool}, so no query waits
+     * for a build, and queries keep using the binary search until the index is ready. Since
+     * indices keep their own copy of the elements, an array must not be modified after it was
+     * first searched, unless it is passed to {@link #invalidate(int[])} afterward.
+     * </p>
+     *
+     * @param maximumCachedArrays the maximum number of arrays to keep statistics and indices for
+     *
+     * @throws IllegalArgumentException if {@code maximumCachedArrays} is not positive
+     */
+    public CachedIndexSearch(long maximumCachedArrays) {
+        this(maximumCachedArrays, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initializes a cached index search that measures query rates with {@code ticker} and builds
+     * indices on {@code executor}. Intended for tests, which need a controlled clock and builds.
+     *
+     * @param maximumCachedArrays the maximum number of arrays to keep statistics and indices for
+     * @param ticker the time source in nanoseconds
+     * @param executor the executor to build indices on
+     *
+     * @throws NullPointerException if {@code ticker} or {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code maximumCachedArrays} is not positive
+     */
+    CachedIndexSearch(long maximumCachedArrays, Ticker ticker, Executor executor) {
+        this.binarySearch = new BinarySearch();
+        this.ticker = checkNotNull(ticker);
+        this.executor = checkNotNull(executor);
+        this.cache = new ArrayIdentityCache<>(maximumCachedArrays,
+                array -> new ArrayStatistics(ticker.read()));
+    }
+
+    @Override
+    public int findFirst(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        SearchIndex index = recordQuery(sortedArray);
+        return index != null
+                ? index.findFirst(target)
+                : binarySearch.findFirst(sortedArray, target);
+    }
+
+    @Override
+    public int findLast(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        SearchIndex index = recordQuery(sortedArray);
+        return index != null
+                ? index.findLast(target)
+                : binarySearch.findLast(sortedArray, target);
+    }
+
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        return binarySearch.lowerBound(sortedArray, target);
+    }
+
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        return binarySearch.upperBound(sortedArray, target);
+    }
+
+    /**
+     * Discards the statistics and the index of {@code sortedArray}, which must be called after
+     * modifying an array that has been searched before.
+     *
+     * @param sortedArray the array to be forgotten
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public void invalidate(int[] sortedArray) {
+        checkNotNull(sortedArray);
+        cache.invalidate(sortedArray);
+    }
+
+    /**
+     * Retrieves the index built for {@code sortedArray}, without counting a query. Intended for
+     * tests.
+     *
+     * @param sortedArray the searched array
+     *
+     * @return the index of {@code sortedArray}, or {@code null} if it has none
+     */
+    SearchIndex getCachedIndex(int[] sortedArray) {
+        ArrayStatistics statistics = cache.getIfPresent(sortedArray);
+        return statistics != null ? statistics.index : null;
+    }
+
+    /**
+     * Releases the entries of arrays that were garbage collected. Intended for tests, since the
+     * cache otherwise does so during later searches.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * Counts a query on {@code sortedArray}, and starts building its index if it just became hot
+     * enough. Only one build is started per array, while all queries keep using the binary
+     * search until the index is published.
+     *
+     * @param sortedArray the searched array
+     *
+     * @return the index of {@code sortedArray}, or {@code null} if it has none yet
+     */
+    private SearchIndex recordQuery(int[] sortedArray) {
+        assertNotNull(sortedArray);
+
+        final int n = sortedArray.length;
+        if (n < MIN_INDEXED_SIZE) {
+            return null;
+        }
+
+        final ArrayStatistics statistics = cache.get(sortedArray);
+        if (statistics.index != null) {
+            return statistics.index;
+        }
+
+        final long queries = statistics.queries.incrementAndGet();
+        if (queries >= Math.max(MIN_QUERIES_TO_INDEX, n / QUERIES_PER_ELEMENT_DIVISOR)
+                && statistics.isBuilding.compareAndSet(false, true)) {
+            final long elapsedNanos = ticker.read() - statistics.firstQueryNanos;
+            executor.execute(
+                    () -> statistics.index = buildIndex(sortedArray, queries, elapsedNanos));
+        }
+
+        return statistics.index;
+    }
+
+    /**
+     * Builds the index that suits the size of {@code sortedArray} and its query rate.
+     *
+     * @param sortedArray the array to be indexed
+     * @param queries the number of queries on {@code sortedArray} so far
+     * @param elapsedNanos the time since the first query on {@code sortedArray}
+     *
+     * @return the new index of {@code sortedArray}
+     */
+    private static SearchIndex buildIndex(int[] sortedArray, long queries, long elapsedNanos) {
+        assertNotNull(sortedArray);
+
+        if (sortedArray.length <= MAX_EYTZINGER_SIZE) {
+            return new EytzingerIndex(sortedArray);
+        }
+
+        // Compare queries per second against the threshold without dividing by zero, in double
+        // since arrays may stay cold for long enough to overflow the product in nanoseconds.
+        final boolean isHot = (double) queries * TimeUnit.SECONDS.toNanos(1)
+                >= (double) HOT_QUERIES_PER_SECOND * elapsedNanos;
+
+        // A B+ tree cannot index the largest arrays, which get a learned index instead.
+        return isHot && sortedArray.length <= StaticBTreeIndex.MAX_SIZE
+                ? new StaticBTreeIndex(sortedArray)
+                : new LearnedIndex(sortedArray);
+    }
+
+    private static class ArrayStatistics {
+        private final long firstQueryNanos; // the ticker reading at the first query
+        private final AtomicLong queries = new AtomicLong(); // the number of queries so far
+        private final AtomicBoolean isBuilding = new AtomicBoolean(); // set by the index builder
+        private volatile SearchIndex index; // published once built, never replaced
+
+        private ArrayStatistics(long firstQueryNanos) {
+            this.firstQueryNanos = firstQueryNanos;
+        }
+    }
+
+}
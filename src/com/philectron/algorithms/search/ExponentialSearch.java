@@ -0,0 +1,83 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class ExponentialSearch implements SearchAlgorithm {
+
+    @Override
+    public int findFirst(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        final int index = lowerBound(sortedArray, (long) target);
+        return index < sortedArray.length && sortedArray[index] == target ? index : -1;
+    }
+
+    @Override
+    public int findLast(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        // The last occurrence of the target is right before the first element greater than it.
+        final int index = lowerBound(sortedArray, (long) target + 1) - 1;
+        return index >= 0 && sortedArray[index] == target ? index : -1;
+    }
+
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return lowerBound(sortedArray, (long) target);
+    }
+
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return lowerBound(sortedArray, (long) target + 1);
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * <p>
+     * Probes positions {@code 1, 2, 4, 8, ...} until one reaches an element that is not less than
+     * {@code target}, then binary searches the gap since the previous probe. Both phases take
+     * {@code O(log k)} steps, where {@code k} is the returned position, so targets near the start
+     * of a large array are found much faster than by a binary search over the whole array.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched, which may be outside the {@code int} range
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int lowerBound(int[] sortedArray, long target) {
+        assertNotNull(sortedArray);
+
+        final int n = sortedArray.length;
+        if (n == 0 || sortedArray[0] >= target) {
+            return 0;
+        }
+
+        // sortedArray[low] is always less than the target, and the result is within (low, high].
+        // The bound stops doubling at the end of the array, so it never overflows.
+        int low = 0;
+        int high = 1;
+        while (high < n && sortedArray[high] < target) {
+            low = high;
+            high = high < n / 2 ? 2 * high : n;
+        }
+
+        while (high - low > 1) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+
+        return high;
+    }
+
+}
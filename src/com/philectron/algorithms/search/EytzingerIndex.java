@@ -0,0 +1,129 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class EytzingerIndex implements SearchIndex {
+
+    // Node indices must be doubled without overflowing during the search.
+    static final int MAX_SIZE = 1 << 30;
+
+    // The sorted elements in breadth-first order of an implicit binary search tree, where node k
+    // has children 2k and 2k + 1. Index 0 is unused.
+    private final int[] tree;
+
+    // ranks[k] is the position of tree[k] in the original sorted array.
+    private final int[] ranks;
+
+    /**
+     * Builds an Eytzinger index from {@code sortedArray}. The index keeps its own copy of the
+     * elements, so {@code sortedArray} may be modified after this constructor returns.
+     *
+     * <p>
+     * In the Eytzinger layout, the nodes visited by a search are packed towards the front of the
+     * array: the first few levels of the tree share a handful of cache lines, and the 16 possible
+     * great-grandchildren of a node four levels down are adjacent. This gives much better cache
+     * locality and hardware prefetching than a binary search over the sorted array, whose first
+     * probes are far apart.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be indexed
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     * @throws IllegalArgumentException if {@code sortedArray} has {@value #MAX_SIZE} or more
+     *         elements
+     */
+    public EytzingerIndex(int[] sortedArray) {
+        checkNotNull(sortedArray);
+        checkArgument(sortedArray.length < MAX_SIZE, "Array is too large to be indexed");
+        tree = new int[sortedArray.length + 1];
+        ranks = new int[sortedArray.length + 1];
+        build(sortedArray, 0, 1);
+    }
+
+    /**
+     * Fills the subtree rooted at node {@code k} with an in-order traversal, so the tree nodes
+     * receive consecutive sorted elements starting from {@code sortedArray[rank]}.
+     *
+     * @param sortedArray the sorted array to be indexed
+     * @param rank the position of the next sorted element to be placed
+     * @param k the root node of the subtree
+     *
+     * @return the position of the next sorted element after filling the subtree
+     */
+    private int build(int[] sortedArray, int rank, int k) {
+        assertNotNull(sortedArray);
+        if (k < tree.length) {
+            rank = build(sortedArray, rank, 2 * k);
+            tree[k] = sortedArray[rank];
+            ranks[k] = rank++;
+            rank = build(sortedArray, rank, 2 * k + 1);
+        }
+        return rank;
+    }
+
+    @Override
+    public int size() {
+        return tree.length - 1;
+    }
+
+    @Override
+    public int findFirst(int target) {
+        final int k = lowerBoundNode(target);
+        return k != 0 && tree[k] == target ? ranks[k] : -1;
+    }
+
+    @Override
+    public int findLast(int target) {
+        if (findFirst(target) < 0) {
+            return -1;
+        }
+
+        // The element right before the first greater element is the last occurrence.
+        final int k = upperBoundNode(target);
+        return (k != 0 ? ranks[k] : size()) - 1;
+    }
+
+    /**
+     * Finds the tree node holding the first element that is greater than or equal to
+     * {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the found node, or {@code 0} if every element is less than {@code target}
+     */
+    private int lowerBoundNode(int target) {
+        final int n = tree.length;
+
+        // Descend to a missing leaf, going right whenever the node is less than the target.
+        int k = 1;
+        while (k < n) {
+            k = 2 * k + (tree[k] < target ? 1 : 0);
+        }
+
+        // The bits of k record the path taken, where a 1 is a right turn. The answer is the last
+        // node where the search turned left, so strip the trailing right turns and that left turn.
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Finds the tree node holding the first element that is greater than {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the found node, or {@code 0} if every element is less than or equal to
+     *         {@code target}
+     */
+    private int upperBoundNode(int target) {
+        final int n = tree.length;
+
+        int k = 1;
+        while (k < n) {
+            k = 2 * k + (tree[k] <= target ? 1 : 0);
+        }
+
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+}
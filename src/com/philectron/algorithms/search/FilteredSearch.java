@@ -0,0 +1,162 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class FilteredSearch implements SearchAlgorithm {
+
+    static final long DEFAULT_MAXIMUM_CACHED_ARRAYS = 64;
+
+    // Smaller arrays are searched about as fast as a filter is probed.
+    static final int MIN_FILTERED_SIZE = 1 << 8;
+
+    private final SearchAlgorithm delegate;
+    private final double falsePositiveProbability;
+    private final ArrayIdentityCache<BlockedBloomFilter> cache;
+
+    /**
+     * Initializes a search that filters out misses before running {@code delegate}, with a false
+     * positive probability of {@value BlockedBloomFilter#DEFAULT_FALSE_POSITIVE_PROBABILITY}.
+     *
+     * @param delegate the search to be run on values that pass the filter
+     *
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     */
+    public FilteredSearch(SearchAlgorithm delegate) {
+        this(delegate, BlockedBloomFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Initializes a search that filters out misses before running {@code delegate}, keeping
+     * filters for at most {@value #DEFAULT_MAXIMUM_CACHED_ARRAYS} arrays.
+     *
+     * @param delegate the search to be run on values that pass the filter
+     * @param falsePositiveProbability the probability that a miss still runs {@code delegate}
+     *
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     * @throws IllegalArgumentException if {@code falsePositiveProbability} is not strictly
+     *         between 0 and 1
+     */
+    public FilteredSearch(SearchAlgorithm delegate, double falsePositiveProbability) {
+        this(delegate, falsePositiveProbability, DEFAULT_MAXIMUM_CACHED_ARRAYS);
+    }
+
+    /**
+     * Initializes a search that filters out misses before running {@code delegate}.
+     *
+     * <p>
+     * Every array of at least {@value #MIN_FILTERED_SIZE} elements gets a
+     * {@link BlockedBloomFilter} of its elements on its first search. Each later search first
+     * probes the filter, and only runs {@code delegate} if the target might be in the array, so
+     * a definite miss costs a single cache line read instead of a full search. Filters are kept
+     * for at most {@code maximumCachedArrays} arrays, tracked by identity and held weakly, like in
+     * {@link CachedIndexSearch}. An array must therefore not be modified after
+     * it was first searched, unless it is passed to {@link #invalidate(int[])} afterward.
+     * </p>
+     *
+     * <p>
+     * Building a filter takes time linear in the array length, so this search pays off when an
+     * array is searched many times and most searches miss.
+     * </p>
+     *
+     * @param delegate the search to be run on values that pass the filter
+     * @param falsePositiveProbability the probability that a miss still runs {@code delegate}
+     * @param maximumCachedArrays the maximum number of arrays to keep filters for
+     *
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     * @throws IllegalArgumentException if {@code falsePositiveProbability} is not strictly
+     *         between 0 and 1, or if {@code maximumCachedArrays} is not positive
+     */
+    public FilteredSearch(SearchAlgorithm delegate, double falsePositiveProbability,
+            long maximumCachedArrays) {
+        checkArgument(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+                "False positive probability must be between 0 and 1");
+        this.delegate = checkNotNull(delegate);
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.cache = new ArrayIdentityCache<>(maximumCachedArrays,
+                array -> new BlockedBloomFilter(array, falsePositiveProbability));
+    }
+
+    @Override
+    public int findFirst(int[] array, int target) {
+        checkNotNull(array);
+        return isDefiniteMiss(array, target) ? -1 : delegate.findFirst(array, target);
+    }
+
+    @Override
+    public int findLast(int[] array, int target) {
+        checkNotNull(array);
+        return isDefiniteMiss(array, target) ? -1 : delegate.findLast(array, target);
+    }
+
+    @Override
+    public boolean contains(int[] array, int target) {
+        checkNotNull(array);
+        return !isDefiniteMiss(array, target) && delegate.contains(array, target);
+    }
+
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        return delegate.lowerBound(sortedArray, target);
+    }
+
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        return delegate.upperBound(sortedArray, target);
+    }
+
+    /**
+     * Retrieves the false positive probability of the filters.
+     *
+     * @return the probability that a miss still runs the delegate search
+     */
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Discards the filter of {@code array}, which must be called after modifying an array that
+     * has been searched before.
+     *
+     * @param array the array to be forgotten
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public void invalidate(int[] array) {
+        checkNotNull(array);
+        cache.invalidate(array);
+    }
+
+    /**
+     * Retrieves the filter built for {@code array}, without building one. Intended for tests.
+     *
+     * @param array the searched array
+     *
+     * @return the filter of {@code array}, or {@code null} if it has none
+     */
+    BlockedBloomFilter getCachedFilter(int[] array) {
+        return cache.getIfPresent(array);
+    }
+
+    /**
+     * Checks the filter of {@code array}, building it on the first search of a large enough
+     * array.
+     *
+     * @param array the searched array
+     * @param target the searched value
+     *
+     * @return {@code true} if {@code target} is definitely not in {@code array}, or
+     *         {@code false} if it might be
+     */
+    private boolean isDefiniteMiss(int[] array, int target) {
+        assertNotNull(array);
+
+        if (array.length < MIN_FILTERED_SIZE) {
+            return false;
+        }
+
+        return !cache.get(array).mightContain(target);
+    }
+
+}
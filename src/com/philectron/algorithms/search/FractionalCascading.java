@@ -0,0 +1,238 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+import java.util.List;
+
+public class FractionalCascading {
+
+    // The original arrays, copied so they cannot change under the catalogs.
+    private final int[][] arrays;
+
+    // catalogs[i] merges arrays[i] with every second element of catalogs[i + 1].
+    private final int[][] catalogs;
+
+    // ownCounts[i][j] is the number of elements of arrays[i] among catalogs[i][0..j - 1].
+    private final int[][] ownCounts;
+
+    // nextPositions[i][j] is the first position in catalogs[i + 1] whose element is not less
+    // than catalogs[i][j], or the length of catalogs[i + 1] for j equal to the length of
+    // catalogs[i].
+    private final int[][] nextPositions;
+
+    private final long buildTimeNanos;
+
+    /**
+     * Builds a fractional cascading structure over {@code sortedArrays}, so that a value can be
+     * located in all of them at once. The structure keeps its own copy of the arrays, so they may
+     * be modified after this constructor returns.
+     *
+     * <p>
+     * Searching {@code k} arrays of {@code n} elements one by one takes {@code k} binary
+     * searches, i.e. {@code O(k log n)} time. Here, every array is paired with a catalog, built
+     * from the last array up: each catalog merges its array with every second element of the
+     * next catalog, and remembers for each of its elements the matching position in its array
+     * and in the next catalog. A query binary searches only the first catalog, and then follows
+     * the remembered positions down, where each step lands at most one position off, since the
+     * next catalog has at most one element between any two elements copied from it. A query
+     * therefore takes {@code O(log n + k)} time, while the catalogs hold at most twice as many
+     * elements as the arrays, each along with its two positions.
+     * </p>
+     *
+     * @param sortedArrays the sorted arrays to be searched together
+     *
+     * @throws NullPointerException if {@code sortedArrays} or any of its arrays is {@code null}
+     */
+    public FractionalCascading(List<int[]> sortedArrays) {
+        checkNotNull(sortedArrays);
+
+        final long startNanos = System.nanoTime();
+
+        final int k = sortedArrays.size();
+        arrays = new int[k][];
+        catalogs = new int[k][];
+        ownCounts = new int[k][];
+        nextPositions = new int[k][];
+
+        for (int i = k - 1; i >= 0; --i) {
+            arrays[i] = checkNotNull(sortedArrays.get(i)).clone();
+            buildCatalog(i);
+        }
+
+        buildTimeNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Retrieves the number of arrays searched together.
+     *
+     * @return the number of arrays
+     */
+    public int getArrayCount() {
+        return arrays.length;
+    }
+
+    /**
+     * Retrieves the time it took to build the catalogs.
+     *
+     * @return the build time in nanoseconds
+     */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    /**
+     * Retrieves the extra memory the catalogs take compared to the arrays alone, which is every
+     * catalog element along with its two positions.
+     *
+     * @return the memory overhead in bytes
+     */
+    public long getMemoryOverheadBytes() {
+        long overhead = 0;
+        for (int i = 0; i < catalogs.length; ++i) {
+            overhead += (long) catalogs[i].length + ownCounts[i].length
+                    + (nextPositions[i] != null ? nextPositions[i].length : 0);
+        }
+        return overhead * Integer.BYTES;
+    }
+
+    /**
+     * Finds the first position in each array whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return a new array whose element {@code i} is the lower bound of {@code target} in array
+     *         {@code i}
+     */
+    public int[] lowerBounds(int target) {
+        int[] out = new int[arrays.length];
+        lowerBounds(target, out);
+        return out;
+    }
+
+    /**
+     * Finds the first position in each array whose element is greater than or equal to
+     * {@code target}, without allocating.
+     *
+     * @param target the target value to be searched
+     * @param out the array to store the lower bound of {@code target} in array {@code i} at
+     *        index {@code i}
+     *
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@link #getArrayCount()}
+     */
+    public void lowerBounds(int target, int[] out) {
+        checkNotNull(out);
+        checkArgument(out.length >= arrays.length, "Output array is too short");
+
+        final int k = arrays.length;
+        if (k == 0) {
+            return;
+        }
+
+        int position = lowerBound(catalogs[0], target);
+        for (int i = 0; i < k; ++i) {
+            out[i] = ownCounts[i][position];
+            if (i + 1 < k) {
+                // The remembered position is at most one past the lower bound in the next
+                // catalog, since at most one of its elements between the target and the element
+                // at the current position was not copied into the current catalog.
+                final int[] next = catalogs[i + 1];
+                position = nextPositions[i][position];
+                if (position > 0 && next[position - 1] >= target) {
+                    --position;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in each array, without allocating.
+     *
+     * @param target the target value to be searched
+     * @param out the array to store the index of the first occurrence of {@code target} in array
+     *        {@code i}, or {@code -1} if it is not there, at index {@code i}
+     *
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@link #getArrayCount()}
+     */
+    public void findFirst(int target, int[] out) {
+        lowerBounds(target, out);
+        for (int i = 0; i < arrays.length; ++i) {
+            final int index = out[i];
+            out[i] = index < arrays[i].length && arrays[i][index] == target ? index : -1;
+        }
+    }
+
+    /**
+     * Builds catalog {@code i} from array {@code i} and catalog {@code i + 1}, which must
+     * already be built unless {@code i} is the last array.
+     *
+     * @param i the index of the catalog to be built
+     */
+    private void buildCatalog(int i) {
+        final int[] array = arrays[i];
+        assertNotNull(array);
+
+        // Every second element of the next catalog, starting from its second element.
+        final int[] next = i + 1 < catalogs.length ? catalogs[i + 1] : new int[0];
+        final int numSamples = next.length / 2;
+
+        final int length = array.length + numSamples;
+        final int[] catalog = new int[length];
+        final int[] ownCount = new int[length + 1];
+        int a = 0;
+        int s = 0;
+        for (int j = 0; j < length; ++j) {
+            final boolean takeOwn =
+                    s == numSamples || (a < array.length && array[a] <= next[2 * s + 1]);
+            catalog[j] = takeOwn ? array[a++] : next[2 * (s++) + 1];
+            ownCount[j + 1] = ownCount[j] + (takeOwn ? 1 : 0);
+        }
+
+        catalogs[i] = catalog;
+        ownCounts[i] = ownCount;
+
+        if (i + 1 < catalogs.length) {
+            final int[] nextPosition = new int[length + 1];
+            int position = 0;
+            for (int j = 0; j < length; ++j) {
+                while (position < next.length && next[position] < catalog[j]) {
+                    ++position;
+                }
+                nextPosition[j] = position;
+            }
+            nextPosition[length] = next.length;
+            nextPositions[i] = nextPosition;
+        }
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int lowerBound(int[] sortedArray, int target) {
+        assertNotNull(sortedArray);
+
+        int low = 0;
+        int high = sortedArray.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
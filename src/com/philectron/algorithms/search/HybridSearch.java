@@ -0,0 +1,76 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class HybridSearch implements SearchAlgorithm {
+
+    static final int DEFAULT_LINEAR_THRESHOLD = 128;
+
+    private final LinearSearch linearSearch;
+    private final BranchlessBinarySearch binarySearch;
+    private final int linearThreshold;
+
+    /**
+     * Initializes a hybrid search that scans sorted arrays of at most
+     * {@value #DEFAULT_LINEAR_THRESHOLD} elements.
+     */
+    public HybridSearch() {
+        this(DEFAULT_LINEAR_THRESHOLD);
+    }
+
+    /**
+     * Initializes a hybrid search over sorted arrays.
+     *
+     * <p>
+     * Below the crossover size, a linear scan beats a binary search: it reads the few cache lines
+     * of the array sequentially, the JIT compiler unrolls its loop, and its only branch is well
+     * predicted, while every step of a binary search depends on the previous one. Arrays of at
+     * most {@code linearThreshold} elements are therefore scanned with a {@link LinearSearch},
+     * and larger arrays are searched with a {@link BranchlessBinarySearch}.
+     * </p>
+     *
+     * @param linearThreshold the maximum length of an array for it to be scanned linearly
+     *
+     * @throws IllegalArgumentException if {@code linearThreshold} is negative
+     */
+    public HybridSearch(int linearThreshold) {
+        checkArgument(linearThreshold >= 0, "Linear threshold must not be negative");
+        this.linearSearch = new LinearSearch();
+        this.binarySearch = new BranchlessBinarySearch();
+        this.linearThreshold = linearThreshold;
+    }
+
+    @Override
+    public int findFirst(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return sortedArray.length <= linearThreshold
+                ? linearSearch.findFirst(sortedArray, target)
+                : binarySearch.findFirst(sortedArray, target);
+    }
+
+    @Override
+    public int findLast(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return sortedArray.length <= linearThreshold
+                ? linearSearch.findLast(sortedArray, target)
+                : binarySearch.findLast(sortedArray, target);
+    }
+
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return sortedArray.length <= linearThreshold
+                ? linearSearch.lowerBound(sortedArray, target)
+                : binarySearch.lowerBound(sortedArray, target);
+    }
+
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return sortedArray.length <= linearThreshold
+                ? linearSearch.upperBound(sortedArray, target)
+                : binarySearch.upperBound(sortedArray, target);
+    }
+
+}
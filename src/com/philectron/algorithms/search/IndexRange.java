@@ -0,0 +1,40 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A half-open range {@code [from, to)} of array indices.
+ *
+ * @param from the starting index, inclusive
+ * @param to the ending index, exclusive
+ */
+public record IndexRange(int from, int to) {
+
+    /**
+     * Initializes a range of array indices.
+     *
+     * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+     */
+    public IndexRange {
+        checkArgument(0 <= from && from <= to, "Invalid index range [%s, %s)", from, to);
+    }
+
+    /**
+     * Retrieves the number of indices in this range.
+     *
+     * @return {@code to - from}
+     */
+    public int length() {
+        return to - from;
+    }
+
+    /**
+     * Checks if this range contains no index.
+     *
+     * @return {@code true} if {@code from == to}, else {@code false}
+     */
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+}
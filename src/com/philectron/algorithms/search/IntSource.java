@@ -0,0 +1,24 @@
+package com.philectron.algorithms.search;
+
+public interface IntSource {
+
+    /**
+     * Retrieves the number of elements in this source.
+     *
+     * @return the number of elements, which may exceed the length of any array
+     */
+    long size();
+
+    /**
+     * Retrieves the element at position {@code index}.
+     *
+     * @param index the position of the element
+     *
+     * @return the element at position {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or is not less than
+     *         {@link #size()}
+     */
+    int get(long index);
+
+}
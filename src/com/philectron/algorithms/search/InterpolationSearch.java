@@ -0,0 +1,93 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class InterpolationSearch implements SearchAlgorithm {
+
+    @Override
+    public int findFirst(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        final int index = lowerBound(sortedArray, (long) target);
+        return index < sortedArray.length && sortedArray[index] == target ? index : -1;
+    }
+
+    @Override
+    public int findLast(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        // The last occurrence of the target is right before the first element greater than it.
+        final int index = lowerBound(sortedArray, (long) target + 1) - 1;
+        return index >= 0 && sortedArray[index] == target ? index : -1;
+    }
+
+    @Override
+    public int lowerBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return lowerBound(sortedArray, (long) target);
+    }
+
+    @Override
+    public int upperBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return lowerBound(sortedArray, (long) target + 1);
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}.
+     *
+     * <p>
+     * Instead of probing the middle of the search window, probes where {@code target} would be if
+     * the values in the window were evenly spaced between its first and last element. On
+     * uniformly distributed values, this takes {@code O(log log n)} probes on average. On skewed
+     * values, a probe may only cut off a few elements, so whenever a probe fails to halve the
+     * window, the next probe falls back to the middle. This keeps the worst case at
+     * {@code O(log n)} probes, about twice as many as a binary search.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched, which may be outside the {@code int} range
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     */
+    private static int lowerBound(int[] sortedArray, long target) {
+        assertNotNull(sortedArray);
+
+        // The result is always within [low, high].
+        int low = 0;
+        int high = sortedArray.length;
+        boolean isBisecting = false;
+
+        while (low < high) {
+            final long lowValue = sortedArray[low];
+            final long highValue = sortedArray[high - 1];
+            if (target <= lowValue) {
+                return low;
+            }
+            if (target > highValue) {
+                return high;
+            }
+
+            // Here lowValue < target <= highValue, so the window has at least two elements. The
+            // product is below (2^32 - 1) * (2^31 - 1), so it does not overflow a long.
+            final int width = high - low;
+            final int probe = isBisecting
+                    ? (low + high) >>> 1
+                    : low + (int) ((target - lowValue) * (width - 1) / (highValue - lowValue));
+
+            if (sortedArray[probe] < target) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+
+            isBisecting = !isBisecting && high - low > width / 2;
+        }
+
+        return low;
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertPositionIndex;
+
+import java.util.Arrays;
+
+public class LearnedIndex implements SearchIndex {
+
+    static final int DEFAULT_EPSILON = 64;
+
+    private final int[] elements;
+    private final int epsilon;
+
+    // Segment s covers the keys from segmentKeys[s] up to the next segment's key, and predicts
+    // the position of key x as segmentPositions[s] + segmentSlopes[s] * (x - segmentKeys[s]).
+    private final int[] segmentKeys;
+    private final int[] segmentPositions;
+    private final double[] segmentSlopes;
+
+    private final long buildTimeNanos;
+
+    /**
+     * Builds a learned index from {@code sortedArray} whose predictions are off by at most
+     * {@value #DEFAULT_EPSILON} positions.
+     *
+     * @param sortedArray the sorted array to be indexed
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    public LearnedIndex(int[] sortedArray) {
+        this(sortedArray, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Builds a learned index from {@code sortedArray}. The index keeps its own copy of the
+     * elements, so {@code sortedArray} may be modified after this constructor returns.
+     *
+     * <p>
+     * The index models the position of each key as a piecewise-linear function of the key. The
+     * segments are fitted greedily in one pass: each segment starts at a key, and keeps a cone of
+     * slopes that predict every key seen since within {@code epsilon} positions. The segment ends
+     * when the next key would leave the cone empty. A lookup finds the segment of the target by a
+     * binary search over the segment keys, which are few enough to stay in cache, predicts a
+     * position, and finishes with a binary search over the {@code 2 * epsilon + 3} positions
+     * around the prediction, which are the {@code epsilon} positions on either side widened by
+     * one more on each side to absorb floating-point rounding. Keys that are close to uniformly
+     * spaced need very few segments, while a smaller {@code epsilon} trades more segments for a
+     * shorter last-mile search.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be indexed
+     * @param epsilon the maximum distance between a predicted and an actual position
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     * @throws IllegalArgumentException if {@code epsilon} is not positive
+     */
+    public LearnedIndex(int[] sortedArray, int epsilon) {
+        checkNotNull(sortedArray);
+        checkArgument(epsilon > 0, "Epsilon must be positive");
+
+        final long startNanos = System.nanoTime();
+
+        this.elements = sortedArray.clone();
+        this.epsilon = epsilon;
+
+        SegmentBuilder builder = new SegmentBuilder(epsilon);
+        final int n = elements.length;
+        for (int i = 0; i < n; ++i) {
+            if (i > 0 && elements[i] == elements[i - 1]) {
+                continue;
+            }
+
+            // Keys between two distinct elements have the position of the greater element as
+            // their lower bound. Fitting the first such key as well bounds the error of every
+            // key in the gap, since a line strays furthest from a constant at the ends of a
+            // range.
+            if (i > 0 && elements[i - 1] + 1 < elements[i]) {
+                builder.add(elements[i - 1] + 1, i);
+            }
+            builder.add(elements[i], i);
+        }
+        builder.finish();
+
+        this.segmentKeys = Arrays.copyOf(builder.keys, builder.count);
+        this.segmentPositions = Arrays.copyOf(builder.positions, builder.count);
+        this.segmentSlopes = Arrays.copyOf(builder.slopes, builder.count);
+
+        buildTimeNanos = System.nanoTime() - startNanos;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Retrieves the maximum distance between a predicted and an actual position.
+     *
+     * @return the error bound this index was built with
+     */
+    public int getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Retrieves the number of linear segments that model the indexed keys.
+     *
+     * @return the number of segments
+     */
+    public int getSegmentCount() {
+        return segmentKeys.length;
+    }
+
+    /**
+     * Retrieves the time it took to build this index.
+     *
+     * @return the build time in nanoseconds
+     */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    /**
+     * Retrieves the extra memory this index takes compared to the sorted array alone, which is
+     * the copy of the elements it searches, plus the key, position, and slope of every segment.
+     *
+     * @return the memory overhead in bytes
+     */
+    public long getMemoryOverheadBytes() {
+        return (long) elements.length * Integer.BYTES
+                + (long) segmentKeys.length * (Integer.BYTES + Integer.BYTES + Double.BYTES);
+    }
+
+    @Override
+    public int findFirst(int target) {
+        final int index = lowerBound(target);
+        return index < elements.length && elements[index] == target ? index : -1;
+    }
+
+    @Override
+    public int findLast(int target) {
+        // The last occurrence of the target is right before the first element greater than it.
+        final int index = lowerBound((long) target + 1) - 1;
+        return index >= 0 && elements[index] == target ? index : -1;
+    }
+
+    /**
+     * Finds the first position whose element is greater than or equal to {@code target}.
+     *
+     * @param target the target value to be searched, which may be outside the {@code int} range
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@link #size()} if every element is less than {@code target}
+     */
+    private int lowerBound(long target) {
+        assertNotNull(elements);
+
+        final int n = elements.length;
+        if (n == 0 || target <= elements[0]) {
+            return 0;
+        }
+        if (target > elements[n - 1]) {
+            return n;
+        }
+
+        // Find the last segment starting at or before the target. The first segment starts at
+        // the first element, which is less than the target.
+        final int segment = lowerBound(segmentKeys, 0, segmentKeys.length, target + 1) - 1;
+        final double predicted = segmentPositions[segment]
+                + segmentSlopes[segment] * (target - segmentKeys[segment]);
+
+        // Widen the window by one position on each side to absorb floating-point rounding.
+        final int position = (int) Math.min(Math.max(predicted, 0), n);
+        final int from = Math.max(0, position - epsilon - 1);
+        final int to = (int) Math.min(n, (long) position + epsilon + 2);
+        final int index = lowerBound(elements, from, to, target);
+
+        // The model bounds its error, but a wrong window must never produce a wrong result.
+        if ((from > 0 && elements[from - 1] >= target)
+                || (index == to && to < n && elements[to] < target)) {
+            return lowerBound(elements, 0, n, target);
+        }
+
+        return index;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray[from..to - 1]} whose element is greater than
+     * or equal to {@code target}.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param from the starting index of the range, inclusive
+     * @param to the ending index of the range, exclusive
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element in the range that is not less than {@code target},
+     *         or {@code to} if every element in the range is less than {@code target}
+     */
+    private static int lowerBound(int[] sortedArray, int from, int to, long target) {
+        assertNotNull(sortedArray);
+        assertPositionIndex(from, to);
+        assertPositionIndex(to, sortedArray.length);
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedArray[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static class SegmentBuilder {
+        private final int epsilon;
+
+        // The finished segments, with room to grow.
+        private int[] keys = new int[16];
+        private int[] positions = new int[16];
+        private double[] slopes = new double[16];
+        private int count = 0;
+
+        // The origin of the current segment, the range of slopes that still fit every point
+        // added since, and the last point added.
+        private int originKey;
+        private int originPosition;
+        private double minSlope;
+        private double maxSlope;
+        private int lastKey;
+        private boolean isOpen = false;
+
+        private SegmentBuilder(int epsilon) {
+            this.epsilon = epsilon;
+        }
+
+        /**
+         * Adds the point ({@code key}, {@code position}) to the current segment, or starts a new
+         * segment if no line through the current origin fits it along with all previous points.
+         * Keys must be added in strictly increasing order, and the keys between two consecutive
+         * points must have the position of the later point.
+         *
+         * @param key the key of the point
+         * @param position the position of the point
+         */
+        private void add(int key, int position) {
+            if (isOpen) {
+                final double dx = (double) key - originKey;
+                final double low = (position - epsilon - (double) originPosition) / dx;
+                final double high = (position + epsilon - (double) originPosition) / dx;
+                if (Math.max(minSlope, low) <= Math.min(maxSlope, high)) {
+                    minSlope = Math.max(minSlope, low);
+                    maxSlope = Math.min(maxSlope, high);
+                    lastKey = key;
+                    return;
+                }
+                finish();
+
+                // Segments cover every key up to the next segment, so start the new segment right
+                // after the last key of the finished one. Those keys share the position of this
+                // point, so a flat line fits both and this point always joins the new segment.
+                if (lastKey + 1 < key) {
+                    open(lastKey + 1, position);
+                    add(key, position);
+                    return;
+                }
+            }
+
+            open(key, position);
+        }
+
+        /**
+         * Starts a new segment at the point ({@code key}, {@code position}).
+         *
+         * @param key the key of the point
+         * @param position the position of the point
+         */
+        private void open(int key, int position) {
+            originKey = key;
+            originPosition = position;
+            minSlope = 0;
+            maxSlope = Double.POSITIVE_INFINITY;
+            lastKey = key;
+            isOpen = true;
+        }
+
+        /**
+         * Closes the current segment, if any, with the slope in the middle of its cone.
+         */
+        private void finish() {
+            if (!isOpen) {
+                return;
+            }
+
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * count);
+                positions = Arrays.copyOf(positions, 2 * count);
+                slopes = Arrays.copyOf(slopes, 2 * count);
+            }
+            keys[count] = originKey;
+            positions[count] = originPosition;
+            slopes[count] = maxSlope == Double.POSITIVE_INFINITY ? 0 : (minSlope + maxSlope) / 2;
+            ++count;
+            isOpen = false;
+        }
+    }
+
+}
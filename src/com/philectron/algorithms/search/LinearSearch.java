@@ -2,8 +2,14 @@ package com.philectron.algorithms.search;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 public class LinearSearch implements SearchAlgorithm {
 
+    // Larger target sets are sorted and binary searched instead of compared one by one.
+    static final int MAX_SCANNED_TARGETS = 8;
+
     @Override
     public int findFirst(int[] array, int target) {
         checkNotNull(array);
@@ -30,4 +36,378 @@ public class LinearSearch implements SearchAlgorithm {
         return -1;
     }
 
+    /**
+     * Counts the occurrences of {@code target} in {@code array}. The loop adds up comparison
+     * results without branching, so unpredictable matches cost no branch mispredictions, and the
+     * JIT compiler may compile it to SIMD compares.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be counted in {@code array}
+     *
+     * @return the number of elements of {@code array} that are equal to {@code target}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int count(int[] array, int target) {
+        checkNotNull(array);
+
+        int count = 0;
+        for (int element : array) {
+            count += element == target ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the first element of {@code array} that is equal to any element of {@code targets}.
+     *
+     * <p>
+     * Up to {@value #MAX_SCANNED_TARGETS} targets are compared against every element. More
+     * targets are sorted into a copy and binary searched for every element instead, so the cost
+     * per element grows logarithmically rather than linearly with the number of targets.
+     * </p>
+     *
+     * @param array the array that may or may not contain any of {@code targets}
+     * @param targets the target values to be searched in {@code array}
+     *
+     * @return the index of the first element of {@code array} that is in {@code targets}, or
+     *         {@code -1} if no element of {@code array} is in {@code targets}
+     *
+     * @throws NullPointerException if {@code array} or {@code targets} is {@code null}
+     */
+    public int indexOfAny(int[] array, int[] targets) {
+        checkNotNull(array);
+        checkNotNull(targets);
+
+        if (targets.length > MAX_SCANNED_TARGETS) {
+            int[] sortedTargets = targets.clone();
+            Arrays.sort(sortedTargets);
+            for (int i = 0, n = array.length; i < n; ++i) {
+                if (Arrays.binarySearch(sortedTargets, array[i]) >= 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        for (int i = 0, n = array.length; i < n; ++i) {
+            for (int target : targets) {
+                if (array[i] == target) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code array}, or {@code -1}
+     *         if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int findFirst(long[] array, long target) {
+        checkNotNull(array);
+
+        for (int i = 0, n = array.length; i < n; ++i) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in {@code array}, or
+     *         {@code -1} if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int findLast(long[] array, long target) {
+        checkNotNull(array);
+
+        for (int n = array.length, i = n - 1; i >= 0; --i) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if {@code array} contains {@code target}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return {@code true} if {@code array} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public boolean contains(long[] array, long target) {
+        return findFirst(array, target) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code array}.
+     *
+     * <p>
+     * Elements are compared as by {@link Double#compare(double, double)}, so {@code NaN}
+     * matches {@code NaN} while {@code -0.0} does not match {@code 0.0}.
+     * </p>
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code array}, or {@code -1}
+     *         if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int findFirst(double[] array, double target) {
+        checkNotNull(array);
+
+        // Comparing bits matches Double#compare, so NaN matches NaN while -0.0 does not match
+        // 0.0, like in BinarySearch.
+        final long targetBits = Double.doubleToLongBits(target);
+
+        for (int i = 0, n = array.length; i < n; ++i) {
+            if (Double.doubleToLongBits(array[i]) == targetBits) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in {@code array}, or
+     *         {@code -1} if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int findLast(double[] array, double target) {
+        checkNotNull(array);
+
+        // Comparing bits matches Double#compare, so NaN matches NaN while -0.0 does not match
+        // 0.0.
+        final long targetBits = Double.doubleToLongBits(target);
+
+        for (int n = array.length, i = n - 1; i >= 0; --i) {
+            if (Double.doubleToLongBits(array[i]) == targetBits) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if {@code array} contains {@code target}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return {@code true} if {@code array} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public boolean contains(double[] array, double target) {
+        return findFirst(array, target) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code array}, or {@code -1}
+     *         if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int findFirst(char[] array, char target) {
+        checkNotNull(array);
+
+        for (int i = 0, n = array.length; i < n; ++i) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in {@code array}, or
+     *         {@code -1} if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public int findLast(char[] array, char target) {
+        checkNotNull(array);
+
+        for (int n = array.length, i = n - 1; i >= 0; --i) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if {@code array} contains {@code target}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     *
+     * @return {@code true} if {@code array} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public boolean contains(char[] array, char target) {
+        return findFirst(array, target) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     * @param comparator the comparator that decides whether an element equals
+     *        {@code target}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code array}, or {@code -1}
+     *         if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} or {@code comparator} is {@code null}
+     */
+    public <T> int findFirst(T[] array, T target, Comparator<? super T> comparator) {
+        checkNotNull(array);
+        checkNotNull(comparator);
+
+        for (int i = 0, n = array.length; i < n; ++i) {
+            if (comparator.compare(array[i], target) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code array}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     * @param comparator the comparator that decides whether an element equals
+     *        {@code target}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in {@code array}, or
+     *         {@code -1} if {@code target} is not in {@code array}
+     *
+     * @throws NullPointerException if {@code array} or {@code comparator} is {@code null}
+     */
+    public <T> int findLast(T[] array, T target, Comparator<? super T> comparator) {
+        checkNotNull(array);
+        checkNotNull(comparator);
+
+        for (int n = array.length, i = n - 1; i >= 0; --i) {
+            if (comparator.compare(array[i], target) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if {@code array} contains {@code target}.
+     *
+     * @param array the array that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code array}
+     * @param comparator the comparator that decides whether an element equals
+     *        {@code target}
+     *
+     * @return {@code true} if {@code array} contains {@code target}, else {@code false}
+     *
+     * @throws NullPointerException if {@code array} or {@code comparator} is {@code null}
+     */
+    public <T> boolean contains(T[] array, T target, Comparator<? super T> comparator) {
+        return findFirst(array, target, comparator) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in {@code source}, such as a
+     * {@link MappedIntSource} over a file too large for an array. The source is read
+     * sequentially, which lets the operating system read ahead of the scan.
+     *
+     * @param source the source that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code source}
+     *
+     * @return the index of the first occurrence of {@code target} in {@code source}, or
+     *         {@code -1} if {@code target} is not in {@code source}
+     *
+     * @throws NullPointerException if {@code source} is {@code null}
+     */
+    public long findFirst(IntSource source, int target) {
+        checkNotNull(source);
+
+        for (long i = 0, n = source.size(); i < n; ++i) {
+            if (source.get(i) == target) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in {@code source}.
+     *
+     * @param source the source that may or may not contain {@code target}
+     * @param target the target value to be searched in {@code source}
+     *
+     * @return the index of the last (final) occurrence of {@code target} in {@code source}, or
+     *         {@code -1} if {@code target} is not in {@code source}
+     *
+     * @throws NullPointerException if {@code source} is {@code null}
+     */
+    public long findLast(IntSource source, int target) {
+        checkNotNull(source);
+
+        for (long i = source.size() - 1; i >= 0; --i) {
+            if (source.get(i) == target) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
 }
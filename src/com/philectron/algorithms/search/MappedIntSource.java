@@ -0,0 +1,111 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public class MappedIntSource implements IntSource {
+
+    // A single mapping can span at most 2 GiB, so the file is mapped in chunks of 1 GiB.
+    static final int DEFAULT_CHUNK_SHIFT = 28;
+
+    private final long size;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final IntBuffer[] chunks;
+
+    /**
+     * Maps the file at {@code file}, which holds big-endian 4-byte ints, as a read-only source.
+     *
+     * @param file the path of the file to be mapped
+     *
+     * @throws NullPointerException if {@code file} is {@code null}
+     * @throws IllegalArgumentException if the file size is not a multiple of 4 bytes
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedIntSource(Path file) throws IOException {
+        this(file, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Maps the file at {@code file}, which holds 4-byte ints in {@code byteOrder}, as a read-only
+     * source.
+     *
+     * <p>
+     * The elements are read straight from the page cache of the operating system, so a file much
+     * larger than the heap can be searched without loading it, and only the pages a search
+     * touches are ever read from disk. The mapping stays valid until this source is garbage
+     * collected, even though the file itself is closed once it is mapped.
+     * </p>
+     *
+     * @param file the path of the file to be mapped
+     * @param byteOrder the byte order of the ints in the file
+     *
+     * @throws NullPointerException if {@code file} or {@code byteOrder} is {@code null}
+     * @throws IllegalArgumentException if the file size is not a multiple of 4 bytes
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedIntSource(Path file, ByteOrder byteOrder) throws IOException {
+        this(file, byteOrder, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Maps a file in chunks of {@code 2^chunkShift} ints. Intended for tests, which need chunk
+     * boundaries without gigabytes of data.
+     *
+     * @param file the path of the file to be mapped
+     * @param byteOrder the byte order of the ints in the file
+     * @param chunkShift the base-2 logarithm of the number of ints per chunk
+     *
+     * @throws NullPointerException if {@code file} or {@code byteOrder} is {@code null}
+     * @throws IllegalArgumentException if the file size is not a multiple of 4 bytes, or if
+     *         {@code chunkShift} is not between 0 and {@value #DEFAULT_CHUNK_SHIFT}
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    MappedIntSource(Path file, ByteOrder byteOrder, int chunkShift) throws IOException {
+        checkNotNull(file);
+        checkNotNull(byteOrder);
+        checkArgument(0 <= chunkShift && chunkShift <= DEFAULT_CHUNK_SHIFT,
+                "Chunk shift must be between 0 and %s", DEFAULT_CHUNK_SHIFT);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long bytes = channel.size();
+            checkArgument(bytes % Integer.BYTES == 0, "File size %s is not a multiple of 4", bytes);
+
+            this.size = bytes / Integer.BYTES;
+            this.chunkShift = chunkShift;
+            this.chunkMask = (1L << chunkShift) - 1;
+
+            final long chunkBytes = (long) Integer.BYTES << chunkShift;
+            final int numChunks = (int) ((bytes + chunkBytes - 1) / chunkBytes);
+            this.chunks = new IntBuffer[numChunks];
+            for (int chunk = 0; chunk < numChunks; ++chunk) {
+                final long position = chunk * chunkBytes;
+                chunks[chunk] = channel
+                        .map(FileChannel.MapMode.READ_ONLY, position,
+                                Math.min(chunkBytes, bytes - position))
+                        .order(byteOrder)
+                        .asIntBuffer();
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int get(long index) {
+        Objects.checkIndex(index, size);
+        return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertPositionIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelLinearSearch implements SearchAlgorithm {
+
+    static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    // The number of elements a chunk scans between two checks for cancellation.
+    private static final int CANCELLATION_INTERVAL = 1 << 12;
+
+    // More chunks than threads balance the load when some threads are busy with other work.
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final LinearSearch sequentialSearch;
+    private final int sequentialThreshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * Initializes a parallel linear search that scans arrays of at most
+     * {@value #DEFAULT_SEQUENTIAL_THRESHOLD} elements on the calling thread.
+     */
+    public ParallelLinearSearch() {
+        this(DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Initializes a parallel linear search running on the common {@link ForkJoinPool}.
+     *
+     * <p>
+     * Large arrays are split into chunks that are scanned in parallel. When searching for the
+     * first occurrence, every chunk that finds the target publishes its index, and every chunk
+     * that starts after the smallest published index stops scanning, since it can no longer hold
+     * the first occurrence. Searching for the last occurrence works the same way from the end.
+     * The results are the same as those of {@link LinearSearch}.
+     * </p>
+     *
+     * @param sequentialThreshold the maximum length of an array for it to be scanned on the
+     *        calling thread, which is also the minimum length of a chunk
+     *
+     * @throws IllegalArgumentException if {@code sequentialThreshold} is not positive
+     */
+    public ParallelLinearSearch(int sequentialThreshold) {
+        checkArgument(sequentialThreshold > 0, "Sequential threshold must be positive");
+        this.sequentialSearch = new LinearSearch();
+        this.sequentialThreshold = sequentialThreshold;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public int findFirst(int[] array, int target) {
+        checkNotNull(array);
+
+        if (array.length <= sequentialThreshold) {
+            return sequentialSearch.findFirst(array, target);
+        }
+
+        // The smallest index found so far, or Integer.MAX_VALUE if none.
+        AtomicInteger firstIndex = new AtomicInteger(Integer.MAX_VALUE);
+        invokeChunks(array.length, (from, to) -> () -> {
+            for (int blockFrom = from; blockFrom < to; blockFrom += CANCELLATION_INTERVAL) {
+                // An earlier chunk already found the target.
+                if (firstIndex.get() < from) {
+                    return;
+                }
+
+                final int blockTo = Math.min(blockFrom + CANCELLATION_INTERVAL, to);
+                for (int i = blockFrom; i < blockTo; ++i) {
+                    if (array[i] == target) {
+                        firstIndex.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+            }
+        });
+
+        final int index = firstIndex.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    @Override
+    public int findLast(int[] array, int target) {
+        checkNotNull(array);
+
+        if (array.length <= sequentialThreshold) {
+            return sequentialSearch.findLast(array, target);
+        }
+
+        // The largest index found so far, or -1 if none.
+        AtomicInteger lastIndex = new AtomicInteger(-1);
+        invokeChunks(array.length, (from, to) -> () -> {
+            for (int blockTo = to; blockTo > from; blockTo -= CANCELLATION_INTERVAL) {
+                // A later chunk already found the target.
+                if (lastIndex.get() >= to) {
+                    return;
+                }
+
+                final int blockFrom = Math.max(blockTo - CANCELLATION_INTERVAL, from);
+                for (int i = blockTo - 1; i >= blockFrom; --i) {
+                    if (array[i] == target) {
+                        lastIndex.accumulateAndGet(i, Math::max);
+                        return;
+                    }
+                }
+            }
+        });
+
+        return lastIndex.get();
+    }
+
+    /**
+     * Splits {@code [0, length)} into chunks of at least {@link #sequentialThreshold} elements,
+     * and runs the scan of every chunk on {@link #pool}, waiting for all of them to finish.
+     *
+     * @param length the number of elements to be split
+     * @param scanFactory creates the scan of the chunk {@code [from, to)}
+     */
+    private void invokeChunks(int length, ChunkScanFactory scanFactory) {
+        assertNotNull(scanFactory);
+        assertPositionIndex(0, length);
+
+        final int numChunks = Math.max(1, Math.min(CHUNKS_PER_THREAD * pool.getParallelism(),
+                length / sequentialThreshold));
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(numChunks);
+        for (int chunk = 0; chunk < numChunks; ++chunk) {
+            final int from = (int) ((long) chunk * length / numChunks);
+            final int to = (int) ((long) (chunk + 1) * length / numChunks);
+            tasks.add(ForkJoinTask.adapt(scanFactory.create(from, to)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    @FunctionalInterface
+    private interface ChunkScanFactory {
+        Runnable create(int from, int to);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.philectron.algorithms.search;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public interface SearchAlgorithm {
@@ -45,4 +46,128 @@ public interface SearchAlgorithm {
         return findFirst(array, target) >= 0;
     }
 
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than or equal to
+     * {@code target}, i.e. the position where {@code target} would be inserted before any equal
+     * elements.
+     *
+     * <p>
+     * The default implementation scans {@code sortedArray} from the start. Searches over sorted
+     * arrays override it with a logarithmic search.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than {@code target}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    default int lowerBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        int index = 0;
+        while (index < sortedArray.length && sortedArray[index] < target) {
+            ++index;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the first position in {@code sortedArray} whose element is greater than
+     * {@code target}, i.e. the position where {@code target} would be inserted after any equal
+     * elements.
+     *
+     * <p>
+     * The default implementation scans {@code sortedArray} from the start. Searches over sorted
+     * arrays override it with a logarithmic search.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@code sortedArray.length} if every element is less than or equal to {@code target}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    default int upperBound(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+
+        int index = 0;
+        while (index < sortedArray.length && sortedArray[index] <= target) {
+            ++index;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the range of all occurrences of {@code target} in {@code sortedArray}. If
+     * {@code sortedArray} does not contain {@code target}, the range is empty and starts where
+     * {@code target} would be inserted.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param target the target value to be searched in {@code sortedArray}
+     *
+     * @return the range from {@link #lowerBound(int[], int)} to {@link #upperBound(int[], int)}
+     *         of {@code target}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     */
+    default IndexRange equalRange(int[] sortedArray, int target) {
+        checkNotNull(sortedArray);
+        return new IndexRange(lowerBound(sortedArray, target), upperBound(sortedArray, target));
+    }
+
+    /**
+     * Counts the elements of {@code sortedArray} that are between {@code low} and {@code high},
+     * both inclusive.
+     *
+     * @param sortedArray the sorted array to be searched
+     * @param low the smallest value to be counted
+     * @param high the largest value to be counted
+     *
+     * @return the number of elements {@code x} of {@code sortedArray} where
+     *         {@code low <= x <= high}
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     * @throws IllegalArgumentException if {@code low} is greater than {@code high}
+     */
+    default int countInRange(int[] sortedArray, int low, int high) {
+        checkNotNull(sortedArray);
+        checkArgument(low <= high, "Range [%s, %s] is empty", low, high);
+        return upperBound(sortedArray, high) - lowerBound(sortedArray, low);
+    }
+
+    /**
+     * Finds the first occurrence of every element of {@code targets} in {@code array}, and
+     * stores the index of the first occurrence of {@code targets[i]} in {@code out[i]}, or
+     * {@code -1} if {@code targets[i]} is not in {@code array}. {@code out} may be
+     * {@code targets} itself.
+     *
+     * <p>
+     * The default implementation searches each target on its own. Implementations may override
+     * this method to share work between the searches of one batch.
+     * </p>
+     *
+     * @param array the array that may or may not contain each target
+     * @param targets the target values to be searched in {@code array}
+     * @param out the array to store the found indices into
+     *
+     * @throws NullPointerException if {@code array}, {@code targets}, or {@code out} is
+     *         {@code null}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}
+     */
+    default void findFirstAll(int[] array, int[] targets, int[] out) {
+        checkNotNull(array);
+        checkNotNull(targets);
+        checkNotNull(out);
+        checkArgument(out.length >= targets.length, "Output array is shorter than targets");
+
+        for (int i = 0; i < targets.length; ++i) {
+            out[i] = findFirst(array, targets[i]);
+        }
+    }
+
 }
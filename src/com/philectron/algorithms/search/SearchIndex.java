@@ -0,0 +1,43 @@
+package com.philectron.algorithms.search;
+
+public interface SearchIndex {
+
+    /**
+     * Retrieves the number of elements of the array this index was built from.
+     *
+     * @return the length of the indexed array
+     */
+    int size();
+
+    /**
+     * Finds the first occurrence of {@code target} in the array this index was built from.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the index of the first occurrence of {@code target} in the indexed array, or
+     *         {@code -1} if {@code target} is not in the indexed array
+     */
+    int findFirst(int target);
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in the array this index was built from.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the index of the last (final) occurrence of {@code target} in the indexed array, or
+     *         {@code -1} if {@code target} is not in the indexed array
+     */
+    int findLast(int target);
+
+    /**
+     * Checks if the array this index was built from contains {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return {@code true} if the indexed array contains {@code target}, else {@code false}
+     */
+    default boolean contains(int target) {
+        return findFirst(target) >= 0;
+    }
+
+}
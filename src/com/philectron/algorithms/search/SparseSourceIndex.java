@@ -0,0 +1,189 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class SparseSourceIndex {
+
+    // 1024 ints make up a typical 4 KiB page.
+    static final int DEFAULT_SAMPLE_INTERVAL = 1 << 10;
+
+    private final IntSource source;
+    private final int sampleInterval;
+
+    // samples[i] is the element at position i * sampleInterval of the source.
+    private final int[] samples;
+
+    /**
+     * Builds a sparse index over {@code sortedSource} that samples one element per page of
+     * {@value #DEFAULT_SAMPLE_INTERVAL} elements.
+     *
+     * @param sortedSource the sorted source to be indexed
+     *
+     * @throws NullPointerException if {@code sortedSource} is {@code null}
+     * @throws IllegalArgumentException if {@code sortedSource} has too many pages to be sampled
+     */
+    public SparseSourceIndex(IntSource sortedSource) {
+        this(sortedSource, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Builds a sparse index over {@code sortedSource}. The index refers to the source instead of
+     * copying it, so the source must not change while the index is in use.
+     *
+     * <p>
+     * A binary search directly over a memory-mapped file touches a different page on almost every
+     * probe, and each page not yet in memory costs a page fault. The index keeps every
+     * {@code sampleInterval}-th element on the heap, small enough to stay in cache, so a lookup
+     * first narrows the target down to one interval without touching the source, and then
+     * searches within that interval, which spans one page when the interval matches the page
+     * size.
+     * </p>
+     *
+     * @param sortedSource the sorted source to be indexed
+     * @param sampleInterval the number of source elements per sample
+     *
+     * @throws NullPointerException if {@code sortedSource} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not positive, or if
+     *         {@code sortedSource} has too many intervals to be sampled
+     */
+    public SparseSourceIndex(IntSource sortedSource, int sampleInterval) {
+        checkNotNull(sortedSource);
+        checkArgument(sampleInterval > 0, "Sample interval must be positive");
+
+        final long size = sortedSource.size();
+        final long numSamples = (size + sampleInterval - 1) / sampleInterval;
+        checkArgument(numSamples <= Integer.MAX_VALUE - 8, "Source has too many samples");
+
+        this.source = sortedSource;
+        this.sampleInterval = sampleInterval;
+        this.samples = new int[(int) numSamples];
+        for (int i = 0; i < samples.length; ++i) {
+            samples[i] = sortedSource.get((long) i * sampleInterval);
+        }
+    }
+
+    /**
+     * Retrieves the number of elements in the indexed source.
+     *
+     * @return the size of the source
+     */
+    public long size() {
+        return source.size();
+    }
+
+    /**
+     * Retrieves the number of elements sampled from the source.
+     *
+     * @return the number of samples
+     */
+    public int getSampleCount() {
+        return samples.length;
+    }
+
+    /**
+     * Retrieves the heap memory this index takes in addition to the source.
+     *
+     * @return the memory overhead in bytes
+     */
+    public long getMemoryOverheadBytes() {
+        return (long) samples.length * Integer.BYTES;
+    }
+
+    /**
+     * Finds the first occurrence of {@code target} in the indexed source.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the index of the first occurrence of {@code target}, or {@code -1} if
+     *         {@code target} is not in the source
+     */
+    public long findFirst(int target) {
+        final long index = lowerBound(target);
+        return index < source.size() && source.get(index) == target ? index : -1;
+    }
+
+    /**
+     * Finds the last (final) occurrence of {@code target} in the indexed source.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the index of the last (final) occurrence of {@code target}, or {@code -1} if
+     *         {@code target} is not in the source
+     */
+    public long findLast(int target) {
+        final long index = upperBound(target) - 1;
+        return index >= 0 && source.get(index) == target ? index : -1;
+    }
+
+    /**
+     * Finds the first position in the source whose element is greater than or equal to
+     * {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is not less than {@code target}, or
+     *         {@link #size()} if every element is less than {@code target}
+     */
+    private long lowerBound(int target) {
+        assertNotNull(samples);
+
+        // Every sample before this one is less than the target, so the answer lies after the
+        // previous sample and no later than this one.
+        final int sample = countSamples(target, false);
+        if (sample == 0) {
+            return 0;
+        }
+
+        final long from = (long) (sample - 1) * sampleInterval + 1;
+        final long to = Math.min(source.size(), (long) sample * sampleInterval);
+        return BinarySearch.lowerBound(source, from, to, target);
+    }
+
+    /**
+     * Finds the first position in the source whose element is greater than {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the index of the first element that is greater than {@code target}, or
+     *         {@link #size()} if every element is less than or equal to {@code target}
+     */
+    private long upperBound(int target) {
+        assertNotNull(samples);
+
+        final int sample = countSamples(target, true);
+        if (sample == 0) {
+            return 0;
+        }
+
+        final long from = (long) (sample - 1) * sampleInterval + 1;
+        final long to = Math.min(source.size(), (long) sample * sampleInterval);
+        return BinarySearch.upperBound(source, from, to, target);
+    }
+
+    /**
+     * Counts the samples that are less than {@code target}, or less than or equal to it when
+     * {@code inclusive} is set.
+     *
+     * @param target the value to be compared against
+     * @param inclusive whether samples equal to {@code target} are counted
+     *
+     * @return the number of counted samples, which is also the index of the first sample that
+     *         is not counted
+     */
+    private int countSamples(int target, boolean inclusive) {
+        int low = 0;
+        int high = samples.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (samples[mid] < target || (inclusive && samples[mid] == target)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class StaticBTreeIndex implements SearchIndex {
+
+    // 16 ints make up a 64-byte cache line.
+    static final int NODE_SIZE = 16;
+
+    // Leaves stay addressable by int offsets, with room left for padding and internal nodes.
+    static final int MAX_SIZE = 1 << 30;
+
+    private final int size;
+
+    // All nodes of all layers, from the root layer down to the leaf layer. Each node holds
+    // NODE_SIZE sorted keys, padded with Integer.MAX_VALUE.
+    private final int[] nodes;
+
+    // layerOffsets[h] is the start of layer h in nodes, where layer 0 holds the leaves.
+    private final int[] layerOffsets;
+
+    private final long buildTimeNanos;
+
+    /**
+     * Builds a static B+ tree index from {@code sortedArray}. The index keeps its own copy of the
+     * elements, so {@code sortedArray} may be modified after this constructor returns.
+     *
+     * <p>
+     * The leaf layer is the sorted array itself, cut into nodes of {@value #NODE_SIZE} keys. Each
+     * internal node also holds {@value #NODE_SIZE} keys and has {@value #NODE_SIZE} + 1 children,
+     * where key {@code i} is the smallest key in the subtree of child {@code i + 1}. Children are
+     * found by arithmetic instead of pointers, so a search reads exactly one node, i.e. one cache
+     * line, per level, and the tree is {@code log17(n)} levels deep instead of the
+     * {@code log2(n)} levels of a binary search.
+     * </p>
+     *
+     * @param sortedArray the sorted array to be indexed
+     *
+     * @throws NullPointerException if {@code sortedArray} is {@code null}
+     * @throws IllegalArgumentException if {@code sortedArray} has more than {@value #MAX_SIZE}
+     *         elements
+     */
+    public StaticBTreeIndex(int[] sortedArray) {
+        checkNotNull(sortedArray);
+        checkArgument(sortedArray.length <= MAX_SIZE, "Array is too large to be indexed");
+
+        final long startNanos = System.nanoTime();
+
+        size = sortedArray.length;
+
+        // Count the nodes of each layer, from the leaves up to a single root.
+        int numLayers = 1;
+        int[] layerCounts = new int[Integer.SIZE];
+        layerCounts[0] = Math.max(1, (size + NODE_SIZE - 1) / NODE_SIZE);
+        while (layerCounts[numLayers - 1] > 1) {
+            layerCounts[numLayers] = (layerCounts[numLayers - 1] + NODE_SIZE) / (NODE_SIZE + 1);
+            ++numLayers;
+        }
+
+        // Place the root layer first so the hottest nodes sit together at the front.
+        layerOffsets = new int[numLayers];
+        int offset = 0;
+        for (int h = numLayers - 1; h >= 0; --h) {
+            layerOffsets[h] = offset;
+            offset += layerCounts[h] * NODE_SIZE;
+        }
+        nodes = new int[offset];
+
+        // Fill the leaves with the sorted keys.
+        final int leafOffset = layerOffsets[0];
+        System.arraycopy(sortedArray, 0, nodes, leafOffset, size);
+        for (int i = size; i < layerCounts[0] * NODE_SIZE; ++i) {
+            nodes[leafOffset + i] = Integer.MAX_VALUE;
+        }
+
+        // Fill each internal node with the smallest keys of its children except the first. The
+        // smallest key of a subtree is the first key of its leftmost leaf.
+        long leavesPerChild = 1; // the number of leaves under one node of layer h - 1
+        for (int h = 1; h < numLayers; ++h) {
+            final int layerOffset = layerOffsets[h];
+            for (int node = 0; node < layerCounts[h]; ++node) {
+                for (int i = 0; i < NODE_SIZE; ++i) {
+                    final long child = (long) node * (NODE_SIZE + 1) + i + 1;
+                    nodes[layerOffset + node * NODE_SIZE + i] = child < layerCounts[h - 1]
+                            ? sortedArray[(int) (child * leavesPerChild * NODE_SIZE)]
+                            : Integer.MAX_VALUE;
+                }
+            }
+            leavesPerChild *= NODE_SIZE + 1;
+        }
+
+        buildTimeNanos = System.nanoTime() - startNanos;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the time it took to build this index.
+     *
+     * @return the build time in nanoseconds
+     */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    /**
+     * Retrieves the extra memory this index takes compared to the sorted array alone, which is
+     * all nodes, including the leaf layer that copies the elements, plus the layer offsets.
+     *
+     * @return the memory overhead in bytes
+     */
+    public long getMemoryOverheadBytes() {
+        return ((long) nodes.length + layerOffsets.length) * Integer.BYTES;
+    }
+
+    @Override
+    public int findFirst(int target) {
+        final int rank = lowerBound(target);
+        return rank < size && nodes[layerOffsets[0] + rank] == target ? rank : -1;
+    }
+
+    @Override
+    public int findLast(int target) {
+        if (findFirst(target) < 0) {
+            return -1;
+        }
+
+        // Padding keys equal the maximum value, so the upper bound of that value is the end.
+        return (target == Integer.MAX_VALUE ? size : upperBound(target)) - 1;
+    }
+
+    /**
+     * Finds the position of the first element that is greater than or equal to {@code target}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the found position, or {@link #size()} if every element is less than
+     *         {@code target}
+     */
+    private int lowerBound(int target) {
+        assertNotNull(nodes);
+
+        // Descend from the root, counting the keys less than the target to pick the child.
+        int node = 0;
+        for (int h = layerOffsets.length - 1; h > 0; --h) {
+            node = node * (NODE_SIZE + 1) + countLess(layerOffsets[h] + node * NODE_SIZE, target);
+        }
+
+        return node * NODE_SIZE + countLess(layerOffsets[0] + node * NODE_SIZE, target);
+    }
+
+    /**
+     * Finds the position of the first element that is greater than {@code target}, where
+     * {@code target} must be less than {@link Integer#MAX_VALUE}.
+     *
+     * @param target the target value to be searched
+     *
+     * @return the found position, or {@link #size()} if every element is less than or equal to
+     *         {@code target}
+     */
+    private int upperBound(int target) {
+        assertNotNull(nodes);
+
+        int node = 0;
+        for (int h = layerOffsets.length - 1; h > 0; --h) {
+            node = node * (NODE_SIZE + 1)
+                    + countLessOrEqual(layerOffsets[h] + node * NODE_SIZE, target);
+        }
+
+        return node * NODE_SIZE + countLessOrEqual(layerOffsets[0] + node * NODE_SIZE, target);
+    }
+
+    /**
+     * Counts the keys of the node starting at {@code nodeStart} that are less than
+     * {@code target}. Scans all keys without branching, so the JIT compiler can unroll the loop
+     * and compile it to SIMD compares when the platform supports them.
+     *
+     * @param nodeStart the index of the first key of the node in {@link #nodes}
+     * @param target the value to be compared against
+     *
+     * @return the number of keys less than {@code target}
+     */
+    private int countLess(int nodeStart, int target) {
+        int count = 0;
+        for (int i = nodeStart; i < nodeStart + NODE_SIZE; ++i) {
+            count += nodes[i] < target ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the keys of the node starting at {@code nodeStart} that are less than or equal to
+     * {@code target}.
+     *
+     * @param nodeStart the index of the first key of the node in {@link #nodes}
+     * @param target the value to be compared against
+     *
+     * @return the number of keys less than or equal to {@code target}
+     */
+    private int countLessOrEqual(int nodeStart, int target) {
+        int count = 0;
+        for (int i = nodeStart; i < nodeStart + NODE_SIZE; ++i) {
+            count += nodes[i] <= target ? 1 : 0;
+        }
+        return count;
+    }
+
+}
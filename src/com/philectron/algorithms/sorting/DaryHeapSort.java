@@ -0,0 +1,109 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertElementIndex;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class DaryHeapSort implements SortingAlgorithm {
+
+    static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+
+    /**
+     * Initializes a heap sort over a {@value #DEFAULT_ARITY}-ary heap.
+     */
+    public DaryHeapSort() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Initializes a heap sort over a {@code arity}-ary heap, where each node has up to
+     * {@code arity} children stored next to each other. Wider nodes make the heap shallower and
+     * keep the children of a node within one or two cache lines, at the cost of more comparisons
+     * to find the largest child.
+     *
+     * @param arity the maximum number of children of each heap node
+     *
+     * @throws IllegalArgumentException if {@code arity} is less than 2
+     */
+    public DaryHeapSort(int arity) {
+        checkArgument(arity >= 2, "Arity must be at least 2");
+        this.arity = arity;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        checkNotNull(array);
+
+        final int n = array.length;
+
+        // Singleton and empty arrays are considered sorted.
+        if (n < 2) {
+            return;
+        }
+
+        // Build a max heap bottom-up (Floyd's method), starting from the last parent node.
+        for (int i = (n - 2) / arity; i >= 0; --i) {
+            siftDown(array, i, n);
+        }
+
+        // Repeatedly move the max element to the end of the array and shrink the heap.
+        for (int heapSize = n - 1; heapSize > 0; --heapSize) {
+            SortUtils.swap(array, 0, heapSize);
+            siftDown(array, 0, heapSize);
+        }
+    }
+
+    /**
+     * Restores the max heap property of the sub-heap rooted at {@code root} in
+     * {@code array[0..heapSize - 1]}, assuming all of its child sub-heaps are already max heaps.
+     *
+     * <p>
+     * This is the bottom-up variant of sift-down: it first walks down to a leaf along the path
+     * of largest children, then climbs back up to find the final position of the root element,
+     * which is usually close to the leaf.
+     * </p>
+     *
+     * @param array the array containing the heap
+     * @param root the index of the root of the sub-heap
+     * @param heapSize the number of elements in the heap
+     */
+    private void siftDown(int[] array, int root, int heapSize) {
+        assertNotNull(array);
+        assertElementIndex(root, heapSize);
+
+        final int element = array[root];
+
+        // Walk down to a leaf, moving the largest child up into the hole at each level. Child
+        // indices are computed in long, since they overflow an int for wide heaps or large arrays.
+        int hole = root;
+        long firstChild = (long) arity * hole + 1;
+        while (firstChild < heapSize) {
+            final int lastChild = (int) Math.min(firstChild + arity, heapSize) - 1;
+            int largestChild = (int) firstChild;
+            for (int child = largestChild + 1; child <= lastChild; ++child) {
+                if (array[child] > array[largestChild]) {
+                    largestChild = child;
+                }
+            }
+            array[hole] = array[largestChild];
+            hole = largestChild;
+            firstChild = (long) arity * hole + 1;
+        }
+
+        // Climb back up, moving smaller parents down until the element fits.
+        while (hole > root) {
+            final int parent = (hole - 1) / arity;
+            if (array[parent] >= element) {
+                break;
+            }
+            array[hole] = array[parent];
+            hole = parent;
+        }
+
+        array[hole] = element;
+    }
+
+}
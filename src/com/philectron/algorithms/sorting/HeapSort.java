@@ -0,0 +1,79 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertElementIndex;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class HeapSort implements SortingAlgorithm {
+
+    @Override
+    public void sort(int[] array) {
+        checkNotNull(array);
+
+        final int n = array.length;
+
+        // Singleton and empty arrays are considered sorted.
+        if (n < 2) {
+            return;
+        }
+
+        // Build a max heap bottom-up (Floyd's method), starting from the last parent node.
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            siftDown(array, i, n);
+        }
+
+        // Repeatedly move the max element to the end of the array and shrink the heap.
+        for (int heapSize = n - 1; heapSize > 0; --heapSize) {
+            SortUtils.swap(array, 0, heapSize);
+            siftDown(array, 0, heapSize);
+        }
+    }
+
+    /**
+     * Restores the max heap property of the sub-heap rooted at {@code root} in
+     * {@code array[0..heapSize - 1]}, assuming both of its child sub-heaps are already max heaps.
+     *
+     * <p>
+     * This is the bottom-up variant of sift-down: it first walks down to a leaf along the path
+     * of larger children, which costs only one comparison per level, then climbs back up to find
+     * the final position of the root element, which is usually close to the leaf.
+     * </p>
+     *
+     * @param array the array containing the heap
+     * @param root the index of the root of the sub-heap
+     * @param heapSize the number of elements in the heap
+     */
+    private void siftDown(int[] array, int root, int heapSize) {
+        assertNotNull(array);
+        assertElementIndex(root, heapSize);
+
+        final int element = array[root];
+
+        // Walk down to a leaf, moving the larger child up into the hole at each level. Child
+        // indices are computed in long, since they overflow an int for arrays over 2^30 elements.
+        int hole = root;
+        long firstChild = 2L * hole + 1;
+        while (firstChild < heapSize) {
+            int child = (int) firstChild;
+            if (child + 1 < heapSize && array[child + 1] > array[child]) {
+                ++child;
+            }
+            array[hole] = array[child];
+            hole = child;
+            firstChild = 2L * hole + 1;
+        }
+
+        // Climb back up, moving smaller parents down until the element fits.
+        while (hole > root) {
+            final int parent = (hole - 1) / 2;
+            if (array[parent] >= element) {
+                break;
+            }
+            array[hole] = array[parent];
+            hole = parent;
+        }
+
+        array[hole] = element;
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertElementIndexes;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+public class InPlaceMergeSort implements SortingAlgorithm {
+
+    static final int DEFAULT_BUFFER_SIZE = 32;
+
+    private final int bufferSize;
+
+    /**
+     * Initializes an in-place merge sort with a buffer of {@value #DEFAULT_BUFFER_SIZE} elements.
+     */
+    public InPlaceMergeSort() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Initializes an in-place merge sort with a buffer of {@code bufferSize} elements. A larger
+     * buffer trades memory for speed since more merges avoid rotations. A buffer size of zero
+     * performs every merge with rotations only.
+     *
+     * @param bufferSize the number of elements in the auxiliary buffer
+     *
+     * @throws IllegalArgumentException if {@code bufferSize} is negative
+     */
+    public InPlaceMergeSort(int bufferSize) {
+        checkArgument(bufferSize >= 0, "Buffer size must not be negative");
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        checkNotNull(array);
+        int[] buffer = new int[Math.min(bufferSize, array.length)];
+        mergeSort(array, buffer, 0, array.length - 1);
+    }
+
+    /**
+     * Performs recursive merge sort on {@code array[low..high]}.
+     *
+     * @param array the array to be sorted
+     * @param buffer the fixed-size buffer shared by all merges
+     * @param low the starting element index of the array, inclusive
+     * @param high the ending element index of the array, inclusive
+     */
+    private void mergeSort(int[] array, int[] buffer, int low, int high) {
+        assertNotNull(array);
+
+        // Singleton and empty arrays are considered sorted.
+        if (low >= high) {
+            return;
+        }
+
+        assertElementIndexes(low, high, array.length);
+
+        final int mid = low + (high - low) / 2;
+
+        mergeSort(array, buffer, low, mid);
+        mergeSort(array, buffer, mid + 1, high);
+
+        merge(array, buffer, low, mid, high);
+    }
+
+    /**
+     * Stably merges two sorted sub-arrays {@code array[low..mid]} and {@code array[mid + 1..high]}
+     * in place, such that {@code array[low..high]} is sorted after the merge. Either sub-array may
+     * be empty.
+     *
+     * <p>
+     * If either sub-array fits into {@code buffer}, it is moved there and merged back linearly.
+     * Otherwise, the longer sub-array is split at its middle element (the pivot), the matching cut
+     * in the other sub-array is found by binary search, the two inner blocks are rotated so the
+     * pivot lands at its final position, and both sides of the pivot are merged recursively.
+     * </p>
+     *
+     * @param array the array containing the two sub-arrays to be merged
+     * @param buffer the fixed-size buffer shared by all merges
+     * @param low the starting element index of the left sub-array, inclusive
+     * @param mid the ending element index of the left sub-array, inclusive
+     * @param high the ending element index of the right sub-array, inclusive
+     */
+    private void merge(int[] array, int[] buffer, int low, int mid, int high) {
+        assertNotNull(array);
+        assertNotNull(buffer);
+
+        final int leftLength = mid - low + 1;
+        final int rightLength = high - mid;
+
+        // Nothing to merge if either half is empty or both halves are already in order.
+        if (leftLength <= 0 || rightLength <= 0 || array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        assertElementIndexes(low, mid, array.length);
+        assertElementIndexes(mid + 1, high, array.length);
+
+        if (leftLength <= buffer.length) {
+            mergeForward(array, buffer, low, mid, high);
+            return;
+        }
+
+        if (rightLength <= buffer.length) {
+            mergeBackward(array, buffer, low, mid, high);
+            return;
+        }
+
+        if (leftLength >= rightLength) {
+            // Split the left half at its middle (the pivot), and find the first element of the
+            // right half that is not less than the pivot. Right elements equal to the pivot must
+            // stay after it to keep the merge stable.
+            final int leftCut = low + leftLength / 2;
+            final int rightCut = lowerBound(array, mid + 1, high, array[leftCut]);
+
+            // Move array[mid + 1..rightCut - 1] in front of array[leftCut..mid].
+            rotate(array, buffer, leftCut, mid, rightCut - 1);
+            final int pivotIndex = leftCut + (rightCut - 1 - mid);
+
+            merge(array, buffer, low, leftCut - 1, pivotIndex - 1);
+            merge(array, buffer, pivotIndex + 1, rightCut - 1, high);
+        } else {
+            // Split the right half at its middle (the pivot), and find the first element of the
+            // left half that is greater than the pivot. Left elements equal to the pivot must stay
+            // before it to keep the merge stable.
+            final int rightCut = mid + 1 + rightLength / 2;
+            final int leftCut = upperBound(array, low, mid, array[rightCut]);
+
+            // Move array[mid + 1..rightCut] in front of array[leftCut..mid].
+            rotate(array, buffer, leftCut, mid, rightCut);
+            final int pivotIndex = leftCut + (rightCut - mid - 1);
+
+            merge(array, buffer, low, leftCut - 1, pivotIndex - 1);
+            merge(array, buffer, pivotIndex + 1, pivotIndex + (mid - leftCut + 1), high);
+        }
+    }
+
+    /**
+     * Merges {@code array[low..mid]} and {@code array[mid + 1..high]} by moving the left half into
+     * {@code buffer} and filling {@code array} from the front.
+     *
+     * @param array the array containing the two sub-arrays to be merged
+     * @param buffer the buffer that can hold the entire left half
+     * @param low the starting element index of the left sub-array, inclusive
+     * @param mid the ending element index of the left sub-array, inclusive
+     * @param high the ending element index of the right sub-array, inclusive
+     */
+    private void mergeForward(int[] array, int[] buffer, int low, int mid, int high) {
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int left = 0; // running pointer for the buffered left half
+        int right = mid + 1; // running pointer for the right half
+        int nMerged = low; // running pointer to overwrite the original array
+
+        // The write pointer never passes the right pointer, so no unread element is overwritten.
+        while (left < leftLength && right <= high) {
+            if (buffer[left] <= array[right]) {
+                array[nMerged++] = buffer[left++];
+            } else {
+                array[nMerged++] = array[right++];
+            }
+        }
+
+        // Copy the remaining left half, if any. The remaining right half is already in place.
+        System.arraycopy(buffer, left, array, nMerged, leftLength - left);
+    }
+
+    /**
+     * Merges {@code array[low..mid]} and {@code array[mid + 1..high]} by moving the right half into
+     * {@code buffer} and filling {@code array} from the back.
+     *
+     * @param array the array containing the two sub-arrays to be merged
+     * @param buffer the buffer that can hold the entire right half
+     * @param low the starting element index of the left sub-array, inclusive
+     * @param mid the ending element index of the left sub-array, inclusive
+     * @param high the ending element index of the right sub-array, inclusive
+     */
+    private void mergeBackward(int[] array, int[] buffer, int low, int mid, int high) {
+        final int rightLength = high - mid;
+        System.arraycopy(array, mid + 1, buffer, 0, rightLength);
+
+        int left = mid; // running pointer for the left half
+        int right = rightLength - 1; // running pointer for the buffered right half
+        int nMerged = high; // running pointer to overwrite the original array
+
+        // Take from the right half on ties to keep equal elements in their original order.
+        while (left >= low && right >= 0) {
+            if (array[left] > buffer[right]) {
+                array[nMerged--] = array[left--];
+            } else {
+                array[nMerged--] = buffer[right--];
+            }
+        }
+
+        // Copy the remaining right half, if any. The remaining left half is already in place.
+        System.arraycopy(buffer, 0, array, low, right + 1);
+    }
+
+    /**
+     * Swaps the adjacent blocks {@code array[first..mid]} and {@code array[mid + 1..last]} while
+     * keeping the order of elements within each block. Either block may be empty.
+     *
+     * @param array the array containing the two blocks
+     * @param buffer the fixed-size buffer, used when the smaller block fits into it
+     * @param first the starting element index of the first block, inclusive
+     * @param mid the ending element index of the first block, inclusive
+     * @param last the ending element index of the second block, inclusive
+     */
+    private void rotate(int[] array, int[] buffer, int first, int mid, int last) {
+        final int firstLength = mid - first + 1;
+        final int secondLength = last - mid;
+
+        if (firstLength <= 0 || secondLength <= 0) {
+            return;
+        }
+
+        if (firstLength <= buffer.length) {
+            System.arraycopy(array, first, buffer, 0, firstLength);
+            System.arraycopy(array, mid + 1, array, first, secondLength);
+            System.arraycopy(buffer, 0, array, first + secondLength, firstLength);
+        } else if (secondLength <= buffer.length) {
+            System.arraycopy(array, mid + 1, buffer, 0, secondLength);
+            System.arraycopy(array, first, array, first + secondLength, firstLength);
+            System.arraycopy(buffer, 0, array, first, secondLength);
+        } else {
+            // Rotating by three reversals needs no extra memory: (A^R B^R)^R = B A.
+            reverse(array, first, mid);
+            reverse(array, mid + 1, last);
+            reverse(array, first, last);
+        }
+    }
+
+    /**
+     * Reverses the order of elements in {@code array[low..high]}.
+     *
+     * @param array the array containing the elements to be reversed
+     * @param low the starting element index, inclusive
+     * @param high the ending element index, inclusive
+     */
+    private void reverse(int[] array, int low, int high) {
+        while (low < high) {
+            SortUtils.swap(array, low++, high--);
+        }
+    }
+
+    /**
+     * Finds the first index in the sorted range {@code array[low..high]} whose element is greater
+     * than or equal to {@code value}.
+     *
+     * @param array the array to be searched
+     * @param low the starting element index of the range, inclusive
+     * @param high the ending element index of the range, inclusive
+     * @param value the value to be compared against
+     *
+     * @return the found index, or {@code high + 1} if every element is less than {@code value}
+     */
+    private static int lowerBound(int[] array, int low, int high, int value) {
+        while (low <= high) {
+            final int mid = low + (high - low) / 2;
+            if (array[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first index in the sorted range {@code array[low..high]} whose element is greater
+     * than {@code value}.
+     *
+     * @param array the array to be searched
+     * @param low the starting element index of the range, inclusive
+     * @param high the ending element index of the range, inclusive
+     * @param value the value to be compared against
+     *
+     * @return the found index, or {@code high + 1} if every element is less than or equal to
+     *         {@code value}
+     */
+    private static int upperBound(int[] array, int low, int high, int value) {
+        while (low <= high) {
+            final int mid = low + (high - low) / 2;
+            if (array[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+}
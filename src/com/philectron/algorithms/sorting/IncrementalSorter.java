@@ -0,0 +1,331 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class IncrementalSorter implements AutoCloseable {
+
+    static final int DEFAULT_MERGE_FACTOR = 4;
+
+    // Some VMs reserve a few header words in an array.
+    private static final int MAX_RUN_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final SortingAlgorithm batchSorter;
+    private final int mergeFactor;
+    private final ExecutorService compactor;
+
+    // Sorted runs, each immutable once published. Guarded by this.
+    private final List<Run> runs;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Initializes an empty incremental sorter that sorts batches with {@code batchSorter} and
+     * compacts every {@value #DEFAULT_MERGE_FACTOR} runs of the same level into one.
+     *
+     * @param batchSorter the sorting algorithm used on each appended batch
+     *
+     * @throws NullPointerException if {@code batchSorter} is {@code null}
+     */
+    public IncrementalSorter(SortingAlgorithm batchSorter) {
+        this(batchSorter, DEFAULT_MERGE_FACTOR);
+    }
+
+    /**
+     * Initializes an empty incremental sorter.
+     *
+     * <p>
+     * Sorted data is kept as a log-structured set of runs. Every appended batch becomes a run of
+     * level 0. Whenever {@code mergeFactor} runs share a level, a background thread merges them
+     * into one run of the next level, so the number of runs stays logarithmic in the number of
+     * elements while each element is merged only a logarithmic number of times.
+     * </p>
+     *
+     * @param batchSorter the sorting algorithm used on each appended batch
+     * @param mergeFactor the number of runs of the same level that are merged together
+     *
+     * @throws NullPointerException if {@code batchSorter} is {@code null}
+     * @throws IllegalArgumentException if {@code mergeFactor} is less than 2
+     */
+    public IncrementalSorter(SortingAlgorithm batchSorter, int mergeFactor) {
+        checkArgument(mergeFactor >= 2, "Merge factor must be at least 2");
+        this.batchSorter = checkNotNull(batchSorter);
+        this.mergeFactor = mergeFactor;
+        this.compactor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("incremental-sorter-compactor-%d")
+                .setDaemon(true)
+                .build());
+        this.runs = new ArrayList<>();
+        this.size = 0;
+        this.closed = false;
+    }
+
+    /**
+     * Retrieves the number of elements appended so far.
+     *
+     * @return the total number of elements across all runs
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of sorted runs currently kept.
+     *
+     * @return the number of runs, which shrinks as background compaction merges them
+     */
+    public synchronized int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * Appends a batch of elements. The batch is copied, so {@code batch} may be reused by the
+     * caller after this method returns.
+     *
+     * @param batch the elements to be appended
+     *
+     * @throws NullPointerException if {@code batch} is {@code null}
+     * @throws IllegalStateException if this sorter has been closed
+     */
+    public void append(int[] batch) {
+        checkNotNull(batch);
+
+        if (batch.length == 0) {
+            return;
+        }
+
+        // Sort outside the lock so concurrent appends and snapshots do not wait on each other.
+        int[] sortedBatch = batch.clone();
+        batchSorter.sort(sortedBatch);
+
+        synchronized (this) {
+            checkState(!closed, "Incremental sorter has been closed");
+            runs.add(new Run(sortedBatch, 0));
+            size += sortedBatch.length;
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Creates an iterator over a snapshot of all elements appended so far, in sorted order.
+     * Elements appended after this call are not visited by the returned iterator.
+     *
+     * @return a primitive iterator that merges all current runs on the fly
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        List<int[]> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(runs.size());
+            for (Run run : runs) {
+                snapshot.add(run.elements);
+            }
+        }
+        return new MergingIterator(snapshot);
+    }
+
+    /**
+     * Copies a snapshot of all elements appended so far into a new sorted array.
+     *
+     * @return a sorted array containing every element appended before this call
+     *
+     * @throws IllegalStateException if there are more elements than an array can hold
+     */
+    public int[] toArray() {
+        List<int[]> snapshot = new ArrayList<>();
+        long snapshotSize = 0;
+        synchronized (this) {
+            for (Run run : runs) {
+                snapshot.add(run.elements);
+                snapshotSize += run.elements.length;
+            }
+        }
+        checkState(snapshotSize <= MAX_RUN_LENGTH, "Too many elements for an array");
+        return merge(snapshot, (int) snapshotSize);
+    }
+
+    /**
+     * Stops accepting appends and waits for the pending compaction, if any, to finish. The sorted
+     * runs are kept, so the sorter can still be iterated after it is closed.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Blocks until all compaction scheduled so far has completed. Intended for tests.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> {}).get();
+    }
+
+    /**
+     * Merges groups of {@link #mergeFactor} runs of the same level until no level has that many
+     * runs. Runs on the single compactor thread, and only holds the lock to pick and to publish
+     * runs, so appends and snapshots proceed while a merge is in progress.
+     */
+    private void compact() {
+        while (true) {
+            List<Run> group;
+            synchronized (this) {
+                group = findMergeableGroup();
+            }
+            if (group == null) {
+                return;
+            }
+
+            List<int[]> groupElements = new ArrayList<>(group.size());
+            int groupSize = 0;
+            for (Run run : group) {
+                groupElements.add(run.elements);
+                groupSize += run.elements.length;
+            }
+            Run merged = new Run(merge(groupElements, groupSize), group.getFirst().level + 1);
+
+            // Replace the group in one step, so every snapshot sees either the group or the merged
+            // run, but never both.
+            synchronized (this) {
+                runs.removeAll(group);
+                runs.add(merged);
+            }
+        }
+    }
+
+    /**
+     * Finds {@link #mergeFactor} runs of the lowest level that has at least that many runs, and
+     * whose merged run would still fit into an array.
+     *
+     * @return the runs to be merged, or {@code null} if no level has enough runs
+     */
+    private List<Run> findMergeableGroup() {
+        assertNotNull(runs);
+
+        int maxLevel = 0;
+        for (Run run : runs) {
+            maxLevel = Math.max(maxLevel, run.level);
+        }
+
+        for (int level = 0; level <= maxLevel; ++level) {
+            List<Run> group = new ArrayList<>(mergeFactor);
+            long groupSize = 0;
+            for (Run run : runs) {
+                if (run.level == level) {
+                    group.add(run);
+                    groupSize += run.elements.length;
+                    if (group.size() == mergeFactor) {
+                        break;
+                    }
+                }
+            }
+            if (group.size() == mergeFactor && groupSize <= MAX_RUN_LENGTH) {
+                return group;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Merges sorted arrays into one sorted array.
+     *
+     * @param sortedArrays the sorted arrays to be merged
+     * @param totalLength the sum of the lengths of {@code sortedArrays}
+     *
+     * @return a new sorted array containing all elements of {@code sortedArrays}
+     */
+    private static int[] merge(List<int[]> sortedArrays, int totalLength) {
+        int[] merged = new int[totalLength];
+        PrimitiveIterator.OfInt it = new MergingIterator(sortedArrays);
+        for (int i = 0; i < totalLength; ++i) {
+            merged[i] = it.nextInt();
+        }
+        return merged;
+    }
+
+    private static class Run {
+        private final int[] elements; // sorted, never modified after publishing
+        private final int level; // the number of compactions that produced this run
+
+        private Run(int[] elements, int level) {
+            this.elements = elements;
+            this.level = level;
+        }
+    }
+
+    private static class MergingIterator implements PrimitiveIterator.OfInt {
+        // One cursor per non-exhausted array, ordered by the cursor's current element.
+        private final PriorityQueue<Cursor> heap;
+
+        private MergingIterator(List<int[]> sortedArrays) {
+            heap = new PriorityQueue<>(Math.max(1, sortedArrays.size()),
+                    Comparator.comparingInt(Cursor::current));
+            for (int[] sortedArray : sortedArrays) {
+                if (sortedArray.length > 0) {
+                    heap.add(new Cursor(sortedArray));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator has no more elements");
+            }
+
+            Cursor cursor = heap.poll();
+            final int value = cursor.current();
+
+            // Put the cursor back with its next element, unless its array is exhausted.
+            if (++cursor.index < cursor.array.length) {
+                heap.add(cursor);
+            }
+
+            return value;
+        }
+    }
+
+    private static class Cursor {
+        private final int[] array;
+        private int index; // the read position within the array
+
+        private Cursor(int[] array) {
+            this.array = array;
+            this.index = 0;
+        }
+
+        private int current() {
+            return array[index];
+        }
+    }
+
+}
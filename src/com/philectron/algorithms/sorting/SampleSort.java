@@ -0,0 +1,294 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertNotNull;
+import static com.philectron.algorithms.logic.Assertion.assertPositionIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SampleSort implements SortingAlgorithm {
+
+    static final int DEFAULT_NUM_BUCKETS = 64;
+    static final int DEFAULT_OVERSAMPLING = 16;
+    static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    // Bucket indices are stored in a byte array, so there can be at most 256 buckets including the
+    // equality buckets.
+    private static final int MAX_NUM_BUCKETS = 128;
+
+    // Each classification chunk should be large enough to be worth a separate task.
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private final SortingAlgorithm bucketSorter;
+    private final int numBuckets;
+    private final int treeHeight;
+    private final int oversampling;
+    private final int sequentialThreshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * Initializes a parallel sample sort with {@value #DEFAULT_NUM_BUCKETS} buckets per level, an
+     * oversampling factor of {@value #DEFAULT_OVERSAMPLING}, and {@link QuickSort3Way} to sort
+     * buckets of at most {@value #DEFAULT_SEQUENTIAL_THRESHOLD} elements.
+     */
+    public SampleSort() {
+        this(new QuickSort3Way(), DEFAULT_NUM_BUCKETS, DEFAULT_OVERSAMPLING,
+                DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Initializes a parallel sample sort running on the common {@link ForkJoinPool}.
+     *
+     * @param bucketSorter the sorting algorithm used on buckets that are small enough
+     * @param numBuckets the number of buckets each level distributes elements into, which must be
+     *        a power of two between 2 and 128
+     * @param oversampling the number of samples drawn per bucket to choose the splitters, where a
+     *        larger value gives more balanced buckets on skewed inputs
+     * @param sequentialThreshold the maximum number of elements in a bucket for it to be sorted
+     *        directly by {@code bucketSorter} instead of being distributed further
+     *
+     * @throws NullPointerException if {@code bucketSorter} is {@code null}
+     * @throws IllegalArgumentException if {@code numBuckets} is not a power of two between 2 and
+     *         128, or if {@code oversampling} or {@code sequentialThreshold} is not positive
+     */
+    public SampleSort(SortingAlgorithm bucketSorter, int numBuckets, int oversampling,
+            int sequentialThreshold) {
+        checkArgument(2 <= numBuckets && numBuckets <= MAX_NUM_BUCKETS
+                && Integer.bitCount(numBuckets) == 1,
+                "Number of buckets must be a power of two between 2 and %s", MAX_NUM_BUCKETS);
+        checkArgument(oversampling > 0, "Oversampling factor must be positive");
+        checkArgument(sequentialThreshold > 0, "Sequential threshold must be positive");
+        this.bucketSorter = checkNotNull(bucketSorter);
+        this.numBuckets = numBuckets;
+        this.treeHeight = Integer.numberOfTrailingZeros(numBuckets);
+        this.oversampling = oversampling;
+        this.sequentialThreshold = sequentialThreshold;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public void sort(int[] array) {
+        checkNotNull(array);
+
+        if (array.length <= sequentialThreshold) {
+            bucketSorter.sort(array);
+            return;
+        }
+
+        // The buffer receives the distributed elements, and the oracle remembers the bucket of each
+        // element between the counting pass and the distribution pass.
+        int[] buffer = new int[array.length];
+        byte[] oracle = new byte[array.length];
+
+        pool.invoke(ForkJoinTask.adapt(() -> sampleSort(array, buffer, oracle, 0, array.length)));
+    }
+
+    /**
+     * Performs recursive sample sort on {@code array[from..to - 1]}. Draws a random sample, picks
+     * evenly spaced splitters from the sorted sample, distributes the elements into buckets
+     * between consecutive splitters, then sorts all buckets in parallel.
+     *
+     * <p>
+     * Every splitter also gets an equality bucket holding all elements equal to it. Those buckets
+     * are already sorted, so heavily duplicated keys, which would otherwise form one huge bucket,
+     * never need another pass.
+     * </p>
+     *
+     * @param array the array to be sorted
+     * @param buffer the scratch array of the same length as {@code array}
+     * @param oracle the scratch array of the same length as {@code array} to store bucket indices
+     * @param from the starting element index of the range, inclusive
+     * @param to the ending element index of the range, exclusive
+     */
+    private void sampleSort(int[] array, int[] buffer, byte[] oracle, int from, int to) {
+        assertNotNull(array);
+        assertPositionIndex(from, to);
+        assertPositionIndex(to, array.length);
+
+        final int length = to - from;
+        if (length <= Math.max(sequentialThreshold, numBuckets * oversampling)) {
+            sortBucket(array, from, to);
+            return;
+        }
+
+        // splitters[i] is the upper bound of bucket i. The last splitter repeats the one before it,
+        // so no element of the last bucket can be mistaken for a member of its equality bucket.
+        final int[] splitters = selectSplitters(array, from, to);
+        final int[] tree = buildSplitterTree(splitters);
+        final int numAllBuckets = 2 * numBuckets;
+
+        // Split the range into chunks that are classified and distributed independently.
+        final int numChunks =
+                Math.max(1, Math.min(pool.getParallelism(), length / MIN_CHUNK_SIZE));
+        final int chunkSize = (length + numChunks - 1) / numChunks;
+        int[][] counts = new int[numChunks][numAllBuckets];
+
+        // Count the bucket sizes per chunk and remember each element's bucket.
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(numChunks);
+        for (int chunk = 0; chunk < numChunks; ++chunk) {
+            final int chunkFrom = from + chunk * chunkSize;
+            final int chunkTo = Math.min(chunkFrom + chunkSize, to);
+            final int[] chunkCounts = counts[chunk];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = chunkFrom; i < chunkTo; ++i) {
+                    final int bucket = classify(tree, splitters, array[i]);
+                    oracle[i] = (byte) bucket;
+                    ++chunkCounts[bucket];
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Turn the counts into write offsets. Bucket b of chunk c starts after all elements of the
+        // smaller buckets, and after the elements of bucket b in the earlier chunks.
+        int[] bucketStarts = new int[numAllBuckets + 1];
+        int offset = from;
+        for (int bucket = 0; bucket < numAllBuckets; ++bucket) {
+            bucketStarts[bucket] = offset;
+            for (int chunk = 0; chunk < numChunks; ++chunk) {
+                final int count = counts[chunk][bucket];
+                counts[chunk][bucket] = offset;
+                offset += count;
+            }
+        }
+        bucketStarts[numAllBuckets] = to;
+
+        // Distribute the elements into the buffer.
+        tasks.clear();
+        for (int chunk = 0; chunk < numChunks; ++chunk) {
+            final int chunkFrom = from + chunk * chunkSize;
+            final int chunkTo = Math.min(chunkFrom + chunkSize, to);
+            final int[] writeOffsets = counts[chunk];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = chunkFrom; i < chunkTo; ++i) {
+                    buffer[writeOffsets[oracle[i] & 0xFF]++] = array[i];
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // Move each bucket and its equality bucket back into the array, then sort the bucket in
+        // parallel with the others. Equality buckets (odd indices) are already sorted.
+        tasks.clear();
+        for (int bucket = 0; bucket < numAllBuckets; bucket += 2) {
+            final int bucketFrom = bucketStarts[bucket];
+            final int bucketTo = bucketStarts[bucket + 1];
+            final int equalityBucketTo = bucketStarts[bucket + 2];
+            tasks.add(ForkJoinTask.adapt(() -> {
+                System.arraycopy(buffer, bucketFrom, array, bucketFrom,
+                        equalityBucketTo - bucketFrom);
+                if (bucketTo - bucketFrom > 1) {
+                    sampleSort(array, buffer, oracle, bucketFrom, bucketTo);
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * Draws {@code numBuckets * oversampling} random elements from {@code array[from..to - 1]},
+     * sorts them, and picks every {@code oversampling}-th sample as a splitter.
+     *
+     * @param array the array to be sampled
+     * @param from the starting element index of the range, inclusive
+     * @param to the ending element index of the range, exclusive
+     *
+     * @return the sorted splitters, with the last splitter repeated to fill {@code numBuckets}
+     *         slots
+     */
+    private int[] selectSplitters(int[] array, int from, int to) {
+        assertNotNull(array);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] sample = new int[numBuckets * oversampling];
+        for (int i = 0; i < sample.length; ++i) {
+            sample[i] = array[random.nextInt(from, to)];
+        }
+        bucketSorter.sort(sample);
+
+        int[] splitters = new int[numBuckets];
+        for (int i = 0; i < numBuckets - 1; ++i) {
+            splitters[i] = sample[(i + 1) * oversampling - 1];
+        }
+        splitters[numBuckets - 1] = splitters[numBuckets - 2];
+        return splitters;
+    }
+
+    /**
+     * Lays out the first {@code numBuckets - 1} sorted splitters as an implicit complete binary
+     * search tree, where node {@code j} has children {@code 2 * j} and {@code 2 * j + 1}, and the
+     * root is at index 1.
+     *
+     * @param splitters the sorted splitters
+     *
+     * @return the splitter tree, where index 0 is unused
+     */
+    private int[] buildSplitterTree(int[] splitters) {
+        assertNotNull(splitters);
+        int[] tree = new int[numBuckets];
+        fillSplitterTree(tree, splitters, 1, 0, numBuckets - 2);
+        return tree;
+    }
+
+    /**
+     * Places the middle splitter of {@code splitters[low..high]} at tree node {@code node}, then
+     * fills the left and right subtrees with the lower and upper halves.
+     *
+     * @param tree the splitter tree to be filled
+     * @param splitters the sorted splitters
+     * @param node the index of the current tree node
+     * @param low the starting index of the splitters in this subtree, inclusive
+     * @param high the ending index of the splitters in this subtree, inclusive
+     */
+    private void fillSplitterTree(int[] tree, int[] splitters, int node, int low, int high) {
+        if (low > high) {
+            return;
+        }
+        final int mid = low + (high - low) / 2;
+        tree[node] = splitters[mid];
+        fillSplitterTree(tree, splitters, 2 * node, low, mid - 1);
+        fillSplitterTree(tree, splitters, 2 * node + 1, mid + 1, high);
+    }
+
+    /**
+     * Finds the bucket of {@code value}. Descends the splitter tree for a fixed number of levels,
+     * and the comparison result of each level is added to the node index instead of being branched
+     * on, so the JIT compiler can emit conditional moves and the loop has no unpredictable branch.
+     *
+     * @param tree the splitter tree
+     * @param splitters the sorted splitters
+     * @param value the value to be classified
+     *
+     * @return {@code 2 * b} if {@code value} lies strictly between splitters {@code b - 1} and
+     *         {@code b}, or {@code 2 * b + 1} if {@code value} equals splitter {@code b}
+     */
+    private int classify(int[] tree, int[] splitters, int value) {
+        int node = 1;
+        for (int level = 0; level < treeHeight; ++level) {
+            node = 2 * node + (value > tree[node] ? 1 : 0);
+        }
+        final int bucket = node - numBuckets;
+        return 2 * bucket + (value == splitters[bucket] ? 1 : 0);
+    }
+
+    /**
+     * Sorts {@code array[from..to - 1]} with the bucket sorter.
+     *
+     * @param array the array containing the bucket
+     * @param from the starting element index of the bucket, inclusive
+     * @param to the ending element index of the bucket, exclusive
+     */
+    private void sortBucket(int[] array, int from, int to) {
+        assertNotNull(array);
+        int[] bucket = Arrays.copyOfRange(array, from, to);
+        bucketSorter.sort(bucket);
+        System.arraycopy(bucket, 0, array, from, bucket.length);
+    }
+
+}
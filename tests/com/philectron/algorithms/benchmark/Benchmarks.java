@@ -0,0 +1,78 @@
+package com.philectron.algorithms.benchmark;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public final class Benchmarks {
+
+    // Each phase runs for at least this many rounds and this long, whichever takes longer.
+    static final int MIN_WARMUP_ROUNDS = 10;
+    static final long MIN_WARMUP_NANOS = 200_000_000L;
+    static final int MIN_MEASURED_ROUNDS = 10;
+    static final long MIN_MEASURED_NANOS = 300_000_000L;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Measures {@code operation} on fresh inputs created by {@code setup}. Runs unmeasured warmup
+     * rounds to let the JIT compiler kick in, then reports the fastest measured round, which is
+     * the least affected by noise from other processes, and the median allocation. Only the
+     * operation itself is timed, and only allocations made by the calling thread are counted.
+     *
+     * @param <T> the type of the input
+     * @param elementsPerRound the number of elements one call of {@code operation} processes
+     * @param setup the supplier of a fresh input for each round
+     * @param operation the operation to be measured
+     *
+     * @return the time and allocation per element
+     *
+     * @throws NullPointerException if {@code setup} or {@code operation} is {@code null}
+     * @throws IllegalArgumentException if {@code elementsPerRound} is not positive
+     */
+    public static <T> Measurement measure(long elementsPerRound, Supplier<? extends T> setup,
+            Consumer<? super T> operation) {
+        checkArgument(elementsPerRound > 0, "Number of elements must be positive");
+        checkNotNull(setup);
+        checkNotNull(operation);
+
+        final long warmupStartNanos = System.nanoTime();
+        for (int round = 0; round < MIN_WARMUP_ROUNDS
+                || System.nanoTime() - warmupStartNanos < MIN_WARMUP_NANOS; ++round) {
+            operation.accept(setup.get());
+        }
+
+        long minElapsedNanos = Long.MAX_VALUE;
+        List<Long> allocatedBytes = new ArrayList<>();
+        long measuredNanos = 0;
+        while (allocatedBytes.size() < MIN_MEASURED_ROUNDS || measuredNanos < MIN_MEASURED_NANOS) {
+            T input = setup.get();
+
+            final long startBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            final long startNanos = System.nanoTime();
+            operation.accept(input);
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes);
+
+            minElapsedNanos = Math.min(minElapsedNanos, elapsedNanos);
+            measuredNanos += elapsedNanos;
+        }
+
+        Collections.sort(allocatedBytes);
+        final long medianAllocatedBytes = allocatedBytes.get(allocatedBytes.size() / 2);
+
+        return new Measurement((double) minElapsedNanos / elementsPerRound,
+                (double) medianAllocatedBytes / elementsPerRound);
+    }
+
+}
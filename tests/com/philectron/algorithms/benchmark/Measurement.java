@@ -0,0 +1,10 @@
+package com.philectron.algorithms.benchmark;
+
+/**
+ * The cost of one benchmarked operation, normalized by the number of elements it processed.
+ *
+ * @param nsPerElement the wall-clock time in nanoseconds per element
+ * @param bytesPerElement the heap memory allocated by the benchmarking thread in bytes per element
+ */
+public record Measurement(double nsPerElement, double bytesPerElement) {
+}
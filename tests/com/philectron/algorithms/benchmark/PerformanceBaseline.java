@@ -0,0 +1,201 @@
+package com.philectron.algorithms.benchmark;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A set of recorded measurements, stored as a JSON file that maps each benchmark key to its
+ * {@code nsPerElement} and {@code bytesPerElement}. New measurements are compared against the
+ * recorded ones, and a measurement is a regression when it exceeds the recorded value by more than
+ * the configured threshold. Measurements depend on the machine, so every machine records its own
+ * baseline, and a benchmark without a recorded measurement fails until the baseline is updated.
+ *
+ * <p>
+ * The following system properties configure the baseline, and are set by the {@code performance}
+ * Maven profile:
+ * </p>
+ * <ul>
+ * <li>{@code performance.baselineDirectory}: the directory of the baseline files</li>
+ * <li>{@code performance.threshold}: the allowed relative slowdown, e.g. {@code 0.25} for 25%</li>
+ * <li>{@code performance.updateBaseline}: whether to overwrite recorded measurements</li>
+ * </ul>
+ */
+public class PerformanceBaseline {
+
+    static final String DEFAULT_BASELINE_DIRECTORY = "performance";
+    static final double DEFAULT_THRESHOLD = 0.25;
+
+    // Allocation measurements are exact, but a few bytes of JIT or class loading noise on an
+    // otherwise allocation-free operation should not count as a regression.
+    private static final double BYTES_PER_ELEMENT_TOLERANCE = 0.01;
+
+    private static final Pattern ENTRY_PATTERN = Pattern.compile(
+            "\"([^\"]+)\"\\s*:\\s*\\{\\s*\"nsPerElement\"\\s*:\\s*([-+.0-9eE]+)\\s*,"
+                    + "\\s*\"bytesPerElement\"\\s*:\\s*([-+.0-9eE]+)\\s*\\}");
+
+    private final Path file;
+    private final double threshold;
+    private final boolean update;
+    private final Map<String, Measurement> measurements;
+    private boolean modified;
+
+    private PerformanceBaseline(Path file, double threshold, boolean update,
+            Map<String, Measurement> measurements) {
+        this.file = file;
+        this.threshold = threshold;
+        this.update = update;
+        this.measurements = measurements;
+        this.modified = false;
+    }
+
+    /**
+     * Loads the baseline of {@code suite} from {@code <baselineDirectory>/<suite>.json}. A missing
+     * file is treated as an empty baseline.
+     *
+     * @param suite the name of the benchmark suite
+     *
+     * @return the loaded baseline
+     *
+     * @throws NullPointerException if {@code suite} is {@code null}
+     * @throws UncheckedIOException if the baseline file exists but cannot be read
+     */
+    public static PerformanceBaseline load(String suite) {
+        checkNotNull(suite);
+
+        Path file = Path.of(
+                System.getProperty("performance.baselineDirectory", DEFAULT_BASELINE_DIRECTORY),
+                suite + ".json");
+        double threshold = Double.parseDouble(
+                System.getProperty("performance.threshold", String.valueOf(DEFAULT_THRESHOLD)));
+        boolean update = Boolean.parseBoolean(System.getProperty("performance.updateBaseline"));
+
+        return load(file, threshold, update);
+    }
+
+    /**
+     * Loads the baseline stored in {@code file}. A missing file is treated as an empty baseline.
+     *
+     * @param file the baseline file
+     * @param threshold the allowed relative slowdown
+     * @param update whether to overwrite recorded measurements
+     *
+     * @return the loaded baseline
+     *
+     * @throws NullPointerException if {@code file} is {@code null}
+     * @throws UncheckedIOException if the baseline file exists but cannot be read
+     */
+    static PerformanceBaseline load(Path file, double threshold, boolean update) {
+        checkNotNull(file);
+
+        Map<String, Measurement> measurements = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                Matcher matcher = ENTRY_PATTERN.matcher(Files.readString(file));
+                while (matcher.find()) {
+                    measurements.put(matcher.group(1), new Measurement(
+                            Double.parseDouble(matcher.group(2)),
+                            Double.parseDouble(matcher.group(3))));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return new PerformanceBaseline(file, threshold, update, measurements);
+    }
+
+    /**
+     * Compares {@code current} against the recorded measurement of {@code key}, or records
+     * {@code current} if the baseline is being updated.
+     *
+     * @param key the benchmark key
+     * @param current the new measurement
+     *
+     * @throws NullPointerException if {@code key} or {@code current} is {@code null}
+     * @throws AssertionError if the baseline is not being updated, and there is no recorded
+     *         measurement of {@code key} or {@code current} regressed by more than the threshold
+     */
+    public void check(String key, Measurement current) {
+        checkNotNull(key);
+        checkNotNull(current);
+
+        Measurement recorded;
+        synchronized (this) {
+            if (update) {
+                measurements.put(key, current);
+                modified = true;
+                return;
+            }
+            recorded = measurements.get(key);
+        }
+
+        if (recorded == null) {
+            throw new AssertionError(String.format(Locale.ROOT,
+                    "%s has no baseline in %s, record one with -Dperformance.updateBaseline=true",
+                    key, file));
+        }
+
+        List<String> regressions = new ArrayList<>();
+        if (current.nsPerElement() > recorded.nsPerElement() * (1 + threshold)) {
+            regressions.add(String.format(Locale.ROOT, "%.3f ns/element (baseline %.3f)",
+                    current.nsPerElement(), recorded.nsPerElement()));
+        }
+        if (current.bytesPerElement() > recorded.bytesPerElement() * (1 + threshold)
+                + BYTES_PER_ELEMENT_TOLERANCE) {
+            regressions.add(String.format(Locale.ROOT, "%.3f bytes/element (baseline %.3f)",
+                    current.bytesPerElement(), recorded.bytesPerElement()));
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new AssertionError(String.format(Locale.ROOT,
+                    "%s regressed by more than %.0f%%: %s", key, threshold * 100,
+                    String.join(", ", regressions)));
+        }
+    }
+
+    /**
+     * Writes the baseline file if any measurement was recorded since loading.
+     *
+     * @throws UncheckedIOException if the baseline file cannot be written
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+
+        StringBuilder json = new StringBuilder("{\n");
+        String separator = "";
+        for (Map.Entry<String, Measurement> entry : measurements.entrySet()) {
+            json.append(separator).append(String.format(Locale.ROOT,
+                    "  \"%s\": { \"nsPerElement\": %.4f, \"bytesPerElement\": %.4f }",
+                    entry.getKey(), entry.getValue().nsPerElement(),
+                    entry.getValue().bytesPerElement()));
+            separator = ",\n";
+        }
+        json.append("\n}\n");
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        modified = false;
+    }
+
+}
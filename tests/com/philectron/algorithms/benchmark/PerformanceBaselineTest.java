@@ -0,0 +1,103 @@
+package com.philectron.algorithms.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PerformanceBaselineTest {
+
+    private static final double THRESHOLD = 0.25;
+
+    @TempDir
+    private Path directory;
+
+    private Path file() {
+        return directory.resolve("suite.json");
+    }
+
+    private PerformanceBaseline recordBaseline() {
+        PerformanceBaseline baseline = PerformanceBaseline.load(file(), THRESHOLD, true);
+        baseline.check("a", new Measurement(10, 0));
+        baseline.check("b", new Measurement(2.5, 16));
+        baseline.save();
+        return PerformanceBaseline.load(file(), THRESHOLD, false);
+    }
+
+    @Test
+    void load_nullArguments_fails() {
+        assertThrows(NullPointerException.class, () -> PerformanceBaseline.load((String) null));
+        assertThrows(NullPointerException.class,
+                () -> PerformanceBaseline.load((Path) null, THRESHOLD, false));
+    }
+
+    @Test
+    void load_missingFile_hasNoBaseline() {
+        PerformanceBaseline baseline = PerformanceBaseline.load(file(), THRESHOLD, false);
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> baseline.check("a", new Measurement(1, 0)));
+        assertThat(error).hasMessageThat().contains("performance.updateBaseline=true");
+
+        // Nothing was recorded, so nothing is written.
+        baseline.save();
+        assertThat(Files.exists(file())).isFalse();
+    }
+
+    @Test
+    void load_savedFile_readsMeasurements() throws IOException {
+        PerformanceBaseline baseline = recordBaseline();
+        assertThat(Files.readString(file())).isEqualTo("{\n"
+                + "  \"a\": { \"nsPerElement\": 10.0000, \"bytesPerElement\": 0.0000 },\n"
+                + "  \"b\": { \"nsPerElement\": 2.5000, \"bytesPerElement\": 16.0000 }\n"
+                + "}\n");
+
+        baseline.check("a", new Measurement(10, 0));
+        baseline.check("b", new Measurement(2.5, 16));
+        assertThrows(AssertionError.class, () -> baseline.check("c", new Measurement(1, 0)));
+    }
+
+    @Test
+    void check_withinThreshold_passes() {
+        PerformanceBaseline baseline = recordBaseline();
+        baseline.check("a", new Measurement(12.5, 0.01));
+        baseline.check("b", new Measurement(0.1, 20));
+    }
+
+    @Test
+    void check_slowerThanThreshold_fails() {
+        PerformanceBaseline baseline = recordBaseline();
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> baseline.check("a", new Measurement(12.6, 0)));
+        assertThat(error).hasMessageThat().contains("a regressed by more than 25%");
+        assertThat(error).hasMessageThat().contains("12.600 ns/element (baseline 10.000)");
+    }
+
+    @Test
+    void check_allocatingMoreThanThreshold_fails() {
+        PerformanceBaseline baseline = recordBaseline();
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> baseline.check("b", new Measurement(2.5, 20.1)));
+        assertThat(error).hasMessageThat().contains("20.100 bytes/element (baseline 16.000)");
+        assertThrows(AssertionError.class, () -> baseline.check("a", new Measurement(10, 0.02)));
+    }
+
+    @Test
+    void check_whileUpdating_overwritesMeasurements() {
+        recordBaseline();
+        PerformanceBaseline updating = PerformanceBaseline.load(file(), THRESHOLD, true);
+        updating.check("a", new Measurement(100, 100));
+        updating.check("c", new Measurement(1, 0));
+        updating.save();
+
+        PerformanceBaseline baseline = PerformanceBaseline.load(file(), THRESHOLD, false);
+        baseline.check("a", new Measurement(100, 100));
+        baseline.check("b", new Measurement(2.5, 16));
+        baseline.check("c", new Measurement(1, 0));
+        assertThrows(AssertionError.class, () -> baseline.check("c", new Measurement(2, 0)));
+    }
+
+}
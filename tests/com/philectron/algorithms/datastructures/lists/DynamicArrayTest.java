@@ -1,10 +1,12 @@
 package com.philectron.algorithms.datastructures.lists;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.philectron.algorithms.datastructures.interfaces.List;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Test;
 
 public class DynamicArrayTest extends ListTestBase {
@@ -36,4 +38,223 @@ public class DynamicArrayTest extends ListTestBase {
         assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
     }
 
+    @Test
+    void addAll_fromDynamicArray_exceedsCapacity_appendsAllElements_returnsTrue() {
+        java.util.List<Integer> values = Collections.nCopies(DynamicArray.DEFAULT_CAPACITY, 1);
+
+        java.util.List<Integer> expectedList = new ArrayList<>(VALUES);
+        expectedList.addAll(values);
+
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        assertThat(list.addAll(new DynamicArray<>(values))).isTrue();
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+
+        assertThat(list.addAll(new DynamicArray<>())).isFalse();
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+    }
+
+    @Test
+    void addAll_fromItself_appendsAllElementsOnce_returnsTrue() {
+        java.util.List<Integer> expectedList = new ArrayList<>(VALUES);
+        expectedList.addAll(VALUES);
+
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        assertThat(list.addAll(list)).isTrue();
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+    }
+
+    @Test
+    void addAll_fromIterableOfUnknownSize_appendsAllElements_returnsTrue() {
+        Iterable<Integer> iterable = () -> VALUES.iterator();
+
+        java.util.List<Integer> expectedList = new ArrayList<>(VALUES);
+        expectedList.addAll(VALUES);
+
+        DynamicArray<Integer> list = new DynamicArray<>(iterable);
+        assertThat(list.addAll(iterable)).isTrue();
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+    }
+
+    @Test
+    void removeRange_outOfBounds_fails() {
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.removeRange(0, VALUES.size() + 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+        assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+    }
+
+    @Test
+    void removeRange_removesElementsInRange() {
+        java.util.List<Integer> expectedList = new ArrayList<>(VALUES);
+        expectedList.subList(2, 5).clear();
+
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        list.removeRange(2, 5);
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+
+        list.removeRange(1, 1);
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+
+        list.removeRange(0, list.size());
+        assertThat(list).isEmpty();
+
+        assertThat(list.add(-1)).isTrue();
+        assertThat(list).containsExactly(-1);
+    }
+
+    @Test
+    void constructor_invalidCapacity_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamicArray<>(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DynamicArray<>(10, 5, GrowthPolicy.doubling()));
+        assertThrows(NullPointerException.class, () -> new DynamicArray<>(10, -1, null));
+    }
+
+    @Test
+    void constructor_withInitialCapacity_allocatesCapacity() {
+        assertThat(new DynamicArray<>().capacity()).isEqualTo(DynamicArray.DEFAULT_CAPACITY);
+        assertThat(new DynamicArray<>(0).capacity()).isEqualTo(0);
+        assertThat(new DynamicArray<>(1000).capacity()).isEqualTo(1000);
+    }
+
+    @Test
+    void add_fromZeroCapacity_growsByPolicy() {
+        DynamicArray<Integer> list = new DynamicArray<>(0, -1, GrowthPolicy.multiplying(1.5));
+        for (int value : VALUES) {
+            assertThat(list.add(value)).isTrue();
+        }
+        assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+        // 0 -> 1 -> 2 -> 3 -> 5 -> 8
+        assertThat(list.capacity()).isEqualTo(8);
+        assertThat(list.getReallocationCount()).isEqualTo(5);
+        assertThat(list.getCopiedElementCount()).isEqualTo(0 + 1 + 2 + 3 + 5);
+    }
+
+    @Test
+    void add_atMaximumCapacity_returnsFalse() {
+        DynamicArray<Integer> list = new DynamicArray<>(2, 5, GrowthPolicy.doubling());
+        for (int i = 0; i < 5; ++i) {
+            assertThat(list.add(i)).isTrue();
+        }
+        assertThat(list.capacity()).isEqualTo(5);
+
+        assertThat(list.add(5)).isFalse();
+        assertThat(list.addFirst(-1)).isFalse();
+        assertThat(list).containsExactly(0, 1, 2, 3, 4).inOrder();
+    }
+
+    @Test
+    void addAll_beyondMaximumCapacity_appendsElementsThatFit_returnsTrue() {
+        DynamicArray<Integer> list = new DynamicArray<>(2, 5, GrowthPolicy.doubling());
+        assertThat(list.addAll(VALUES)).isTrue();
+        assertThat(list).containsExactlyElementsIn(VALUES.subList(0, 5)).inOrder();
+
+        assertThat(list.addAll(VALUES)).isFalse();
+        assertThat(list.size()).isEqualTo(5);
+    }
+
+    @Test
+    void ensureCapacity_invalidCapacity_fails() {
+        DynamicArray<Integer> list = new DynamicArray<>(2, 5, GrowthPolicy.doubling());
+        assertThrows(IllegalArgumentException.class, () -> list.ensureCapacity(-1));
+        assertThrows(IllegalArgumentException.class, () -> list.ensureCapacity(6));
+    }
+
+    @Test
+    void ensureCapacity_growsOnce_thenAddsWithoutReallocating() {
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        final long reallocations = list.getReallocationCount();
+
+        list.ensureCapacity(list.capacity() - 1);
+        assertThat(list.getReallocationCount()).isEqualTo(reallocations);
+
+        list.ensureCapacity(1000);
+        assertThat(list.capacity()).isEqualTo(1000);
+        assertThat(list.getReallocationCount()).isEqualTo(reallocations + 1);
+
+        while (list.size() < 1000) {
+            list.add(0);
+        }
+        assertThat(list.getReallocationCount()).isEqualTo(reallocations + 1);
+        for (int i = 0; i < VALUES.size(); ++i) {
+            assertThat(list.get(i)).isEqualTo(VALUES.get(i));
+        }
+    }
+
+    @Test
+    void trimToSize_reducesCapacityToSize() {
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        list.trimToSize();
+        assertThat(list.capacity()).isEqualTo(VALUES.size());
+        assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+
+        list.clear();
+        assertThat(list.capacity()).isEqualTo(VALUES.size());
+        list.trimToSize();
+        assertThat(list.capacity()).isEqualTo(0);
+
+        assertThat(list.add(-1)).isTrue();
+        assertThat(list).containsExactly(-1);
+    }
+
+    @Test
+    void remove_withShrinkingPolicy_shrinksWithHysteresis() {
+        DynamicArray<Integer> list =
+                new DynamicArray<>(4, -1, GrowthPolicy.doubling().withShrinking());
+        for (int i = 0; i < 64; ++i) {
+            list.add(i);
+        }
+        assertThat(list.capacity()).isEqualTo(64);
+
+        // Removing down to half of the capacity keeps it.
+        list.removeRange(32, 64);
+        assertThat(list.capacity()).isEqualTo(64);
+
+        // Removing down to a quarter halves it.
+        list.removeRange(16, 32);
+        assertThat(list.capacity()).isEqualTo(32);
+
+        // Adding back up to a full array does not grow it.
+        for (int i = 16; i < 32; ++i) {
+            list.add(i);
+        }
+        assertThat(list.capacity()).isEqualTo(32);
+
+        // Removing everything stops at the initial capacity.
+        while (!list.isEmpty()) {
+            list.removeLast();
+        }
+        assertThat(list.capacity()).isEqualTo(4);
+    }
+
+    @Test
+    void remove_withDefaultPolicy_keepsCapacity() {
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        final int capacity = list.capacity();
+        list.removeRange(0, list.size());
+        assertThat(list.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    void spliterator_splitsByIndexInHalves() {
+        DynamicArray<Integer> list = new DynamicArray<>(VALUES);
+        Spliterator<Integer> spliterator = list.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(VALUES.size() / 2);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(VALUES.size() - VALUES.size() / 2);
+
+        java.util.List<Integer> traversed = new ArrayList<>();
+        prefix.forEachRemaining(traversed::add);
+        assertThat(spliterator.tryAdvance(traversed::add)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown())
+                .isEqualTo(VALUES.size() - VALUES.size() / 2 - 1);
+        spliterator.forEachRemaining(traversed::add);
+        assertThat(traversed).containsExactlyElementsIn(VALUES).inOrder();
+
+        assertThat(spliterator.trySplit()).isNull();
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class ElementLayoutTest {
+
+    private static <E> void assertRoundTrip(ElementLayout<E> layout, E[] values) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(values.length * layout.byteSize());
+        for (int i = 0; i < values.length; ++i) {
+            layout.write(buffer, i * layout.byteSize(), values[i]);
+        }
+        for (int i = 0; i < values.length; ++i) {
+            assertThat(layout.read(buffer, i * layout.byteSize())).isEqualTo(values[i]);
+        }
+    }
+
+    @Test
+    void int_roundTripsValues() {
+        assertThat(ElementLayout.INT.byteSize()).isEqualTo(Integer.BYTES);
+        assertRoundTrip(ElementLayout.INT,
+                new Integer[] { 0, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE });
+    }
+
+    @Test
+    void long_roundTripsValues() {
+        assertThat(ElementLayout.LONG.byteSize()).isEqualTo(Long.BYTES);
+        assertRoundTrip(ElementLayout.LONG,
+                new Long[] { 0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE });
+    }
+
+    @Test
+    void double_roundTripsValues() {
+        assertThat(ElementLayout.DOUBLE.byteSize()).isEqualTo(Double.BYTES);
+        assertRoundTrip(ElementLayout.DOUBLE, new Double[] { 0.0, -0.0, 1.5, Double.NaN,
+                Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE });
+    }
+
+}
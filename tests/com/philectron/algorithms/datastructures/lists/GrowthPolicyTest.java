@@ -0,0 +1,74 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class GrowthPolicyTest {
+
+    @Test
+    void doubling_doublesCapacity() {
+        GrowthPolicy policy = GrowthPolicy.doubling();
+        assertThat(policy.grow(0, 1)).isEqualTo(1);
+        assertThat(policy.grow(1, 2)).isEqualTo(2);
+        assertThat(policy.grow(20, 21)).isEqualTo(40);
+        assertThat(policy.grow(20, 50)).isEqualTo(50);
+        assertThat(policy.grow(Integer.MAX_VALUE - 1, Integer.MAX_VALUE))
+                .isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void multiplying_notGreaterThanOne_fails() {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.multiplying(1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.multiplying(0.5));
+    }
+
+    @Test
+    void multiplying_multipliesCapacity_roundingUp() {
+        GrowthPolicy policy = GrowthPolicy.multiplying(1.5);
+        assertThat(policy.grow(1, 2)).isEqualTo(2);
+        assertThat(policy.grow(3, 4)).isEqualTo(5);
+        assertThat(policy.grow(20, 21)).isEqualTo(30);
+        assertThat(policy.grow(20, 100)).isEqualTo(100);
+    }
+
+    @Test
+    void incrementing_notPositive_fails() {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.incrementing(0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.incrementing(-1));
+    }
+
+    @Test
+    void incrementing_addsToCapacity() {
+        GrowthPolicy policy = GrowthPolicy.incrementing(10);
+        assertThat(policy.grow(0, 1)).isEqualTo(10);
+        assertThat(policy.grow(20, 21)).isEqualTo(30);
+        assertThat(policy.grow(20, 50)).isEqualTo(50);
+        assertThat(policy.grow(Integer.MAX_VALUE - 1, Integer.MAX_VALUE))
+                .isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shrink_byDefault_keepsCapacity() {
+        assertThat(GrowthPolicy.doubling().shrink(100, 0)).isEqualTo(100);
+    }
+
+    @Test
+    void withShrinking_growsLikeOriginal() {
+        GrowthPolicy policy = GrowthPolicy.multiplying(1.5).withShrinking();
+        assertThat(policy.grow(20, 21)).isEqualTo(30);
+    }
+
+    @Test
+    void withShrinking_halvesCapacityWhenQuarterFull() {
+        GrowthPolicy policy = GrowthPolicy.doubling().withShrinking();
+        assertThat(policy.shrink(100, 26)).isEqualTo(100);
+        assertThat(policy.shrink(100, 25)).isEqualTo(50);
+        assertThat(policy.shrink(100, 13)).isEqualTo(50);
+        assertThat(policy.shrink(100, 12)).isEqualTo(25);
+        assertThat(policy.shrink(100, 6)).isEqualTo(12);
+        assertThat(policy.shrink(100, 0)).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.philectron.algorithms.benchmark.Benchmarks;
+import com.philectron.algorithms.benchmark.Measurement;
+import com.philectron.algorithms.benchmark.PerformanceBaseline;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Runs common operations on array-backed and off-heap lists of boxed and primitive elements, and
+ * fails if any of them got slower or allocates more than its recorded baseline. Only runs in the
+ * {@code performance} Maven profile.
+ */
+@Tag("performance")
+public class ListPerformanceTest {
+
+    private static final long SEED = 42;
+    private static final int SIZE = 1 << 20;
+
+    private static final int[] VALUES = new Random(SEED).ints(SIZE).toArray();
+    private static final List<Integer> BOXED_VALUES = Arrays.stream(VALUES).boxed().toList();
+
+    // Inserting into or removing from the middle shifts half of the list every time, so only
+    // this many are run per round.
+    private static final int SHIFTS = 1 << 8;
+
+    private static PerformanceBaseline baseline;
+
+    // Keeps results alive so the JIT compiler cannot eliminate the operations.
+    private static volatile long blackhole;
+
+    private record Operation(String name, Consumer<int[]> run) {
+    }
+
+    private static final List<Operation> OPERATIONS = List.of(
+            new Operation("DynamicArray/appendAndIterate",
+                    values -> appendAndIterate(new DynamicArray<>(), values)),
+            new Operation("DynamicArray/appendPresizedAndIterate",
+                    values -> appendAndIterate(new DynamicArray<>(values.length), values)),
+            new Operation("DynamicArray/appendGrowing1.5xAndIterate",
+                    values -> appendAndIterate(new DynamicArray<>(DynamicArray.DEFAULT_CAPACITY,
+                            -1, GrowthPolicy.multiplying(1.5)), values)),
+            new Operation("OffHeapList/appendAndIterate", values -> {
+                try (OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT)) {
+                    for (int value : values) {
+                        list.add(value);
+                    }
+                    long sum = 0;
+                    for (int element : list) {
+                        sum += element;
+                    }
+                    blackhole = sum;
+                }
+            }),
+            new Operation("IntDynamicArray/appendAndIterate", values -> {
+                IntDynamicArray list = new IntDynamicArray();
+                for (int value : values) {
+                    list.add(value);
+                }
+                long sum = 0;
+                for (PrimitiveIterator.OfInt it = list.iterator(); it.hasNext();) {
+                    sum += it.nextInt();
+                }
+                blackhole = sum;
+            }));
+
+    private record Mutation(String name, int elementsPerRound, int sizeChange,
+            Consumer<DynamicArray<Integer>> run) {
+    }
+
+    private static final List<Mutation> MUTATIONS = List.of(
+            new Mutation("insertMiddle", SHIFTS, SHIFTS, list -> {
+                for (int i = 0; i < SHIFTS; ++i) {
+                    list.add(list.size() / 2, i);
+                }
+            }),
+            new Mutation("removeMiddle", SHIFTS, -SHIFTS, list -> {
+                for (int i = 0; i < SHIFTS; ++i) {
+                    list.remove(list.size() / 2);
+                }
+            }),
+            new Mutation("removeRangeMiddle", SIZE / 2, -SIZE / 2,
+                    list -> list.removeRange(SIZE / 4, SIZE / 4 * 3)),
+            new Mutation("addAll", SIZE, SIZE, list -> list.addAll(BOXED_VALUES)),
+            new Mutation("clear", SIZE, -SIZE, DynamicArray::clear));
+
+    // Built once, so that the traversals only measure the streams.
+    private static final DynamicArray<Integer> DYNAMIC_ARRAY = new DynamicArray<>(BOXED_VALUES);
+    private static final DoublyLinkedList<Integer> LINKED_LIST =
+            new DoublyLinkedList<>(BOXED_VALUES);
+    private static final OffHeapList<Integer> OFF_HEAP_LIST =
+            new OffHeapList<>(ElementLayout.INT, BOXED_VALUES);
+
+    private record Traversal(String name, Supplier<Stream<Integer>> stream) {
+    }
+
+    private static final List<Traversal> TRAVERSALS = List.of(
+            new Traversal("DynamicArray/stream", DYNAMIC_ARRAY::stream),
+            new Traversal("DynamicArray/parallelStream", DYNAMIC_ARRAY::parallelStream),
+            new Traversal("DoublyLinkedList/stream", LINKED_LIST::stream),
+            new Traversal("DoublyLinkedList/parallelStream", LINKED_LIST::parallelStream),
+            new Traversal("OffHeapList/stream", OFF_HEAP_LIST::stream),
+            new Traversal("OffHeapList/parallelStream", OFF_HEAP_LIST::parallelStream));
+
+    @BeforeAll
+    static void loadBaseline() {
+        baseline = PerformanceBaseline.load("lists");
+    }
+
+    @AfterAll
+    static void saveBaseline() {
+        baseline.save();
+        OFF_HEAP_LIST.close();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> operation_doesNotRegress() {
+        return OPERATIONS.stream().map(operation -> {
+            final String key = operation.name() + "/" + SIZE;
+            return DynamicTest.dynamicTest(key, () -> {
+                // A fast but wrong operation is not an improvement.
+                long expected = 0;
+                for (int value : VALUES) {
+                    expected += value;
+                }
+                operation.run().accept(VALUES);
+                assertThat(blackhole).isEqualTo(expected);
+
+                Measurement measurement =
+                        Benchmarks.measure(SIZE, () -> VALUES, operation.run());
+
+                baseline.check(key, measurement);
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> mutation_doesNotRegress() {
+        return MUTATIONS.stream().map(mutation -> {
+            final String key = "DynamicArray/" + mutation.name() + "/" + SIZE;
+            return DynamicTest.dynamicTest(key, () -> {
+                DynamicArray<Integer> list = new DynamicArray<>(BOXED_VALUES);
+                mutation.run().accept(list);
+                assertThat(list.size()).isEqualTo(SIZE + mutation.sizeChange());
+
+                Measurement measurement = Benchmarks.measure(mutation.elementsPerRound(),
+                        () -> new DynamicArray<>(BOXED_VALUES), mutation.run());
+
+                baseline.check(key, measurement);
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> traversal_doesNotRegress() {
+        return TRAVERSALS.stream().map(traversal -> {
+            final String key = traversal.name() + "/" + SIZE;
+            return DynamicTest.dynamicTest(key, () -> {
+                final Consumer<Stream<Integer>> sum =
+                        stream -> blackhole = stream.mapToLong(Integer::longValue).sum();
+
+                long expected = 0;
+                for (int value : VALUES) {
+                    expected += value;
+                }
+                sum.accept(traversal.stream().get());
+                assertThat(blackhole).isEqualTo(expected);
+
+                Measurement measurement = Benchmarks.measure(SIZE, traversal.stream(), sum);
+
+                baseline.check(key, measurement);
+            });
+        });
+    }
+
+    private static void appendAndIterate(DynamicArray<Integer> list, int[] values) {
+        for (int value : values) {
+            list.add(value);
+        }
+        long sum = 0;
+        for (int element : list) {
+            sum += element;
+        }
+        blackhole = sum;
+    }
+
+}
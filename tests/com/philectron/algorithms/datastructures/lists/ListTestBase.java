@@ -2,12 +2,15 @@ package com.philectron.algorithms.datastructures.lists;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.philectron.algorithms.datastructures.interfaces.List;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,9 +19,19 @@ public abstract class ListTestBase {
     static final java.util.List<Integer> VALUES =
             java.util.List.of(100, 400, 700, 200, 500, 300, 600, 100);
 
+    private final boolean permitsNulls;
+
     private List<Integer> list;
     private List<Integer> emptyList;
 
+    ListTestBase() {
+        this(true);
+    }
+
+    ListTestBase(boolean permitsNulls) {
+        this.permitsNulls = permitsNulls;
+    }
+
     abstract List<Integer> createList(Iterable<Integer> iterable);
 
     @BeforeEach
@@ -111,6 +124,21 @@ public abstract class ListTestBase {
         assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
     }
 
+    @Test
+    void add_nullElement_fails() {
+        assumeTrue(!permitsNulls);
+
+        final int midPosition = VALUES.size() / 2;
+        assertThrows(NullPointerException.class, () -> list.add(midPosition, null));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(NullPointerException.class, () -> list.addFirst(null));
+        assertThrows(NullPointerException.class, () -> list.addLast(null));
+        assertThrows(NullPointerException.class, () -> list.set(midPosition, null));
+        assertThrows(NullPointerException.class,
+                () -> list.addAll(Collections.nCopies(VALUES.size(), null)));
+        assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+    }
+
     @Test
     void addAll_fromNullInput_fails() {
         assertThrows(NullPointerException.class, () -> list.addAll(null));
@@ -145,6 +173,8 @@ public abstract class ListTestBase {
 
     @Test
     void indexOf_nullElement_modifiesNothing_returnsFirstOccurrenceIndex() {
+        assumeTrue(permitsNulls);
+
         // Before adding or setting null values, make sure this list does not have any.
         assertThat(list.indexOf(null)).isEqualTo(-1);
 
@@ -191,6 +221,8 @@ public abstract class ListTestBase {
 
     @Test
     void lastIndexOf_nullElement_modifiesNothing_returnsLastOccurrenceIndex() {
+        assumeTrue(permitsNulls);
+
         // Before adding or setting null values, make sure this list does not have any.
         assertThat(list.lastIndexOf(null)).isEqualTo(-1);
 
@@ -298,6 +330,8 @@ public abstract class ListTestBase {
 
     @Test
     void removeAll_removesAllCommonElements() {
+        assumeTrue(permitsNulls);
+
         // Test for both null and non-null values.
         java.util.List<Integer> valuesToRemove = new ArrayList<>(VALUES);
         valuesToRemove.add(null);
@@ -307,6 +341,21 @@ public abstract class ListTestBase {
         assertThat(list).isEmpty();
     }
 
+    @Test
+    void removeAll_nonNullCommonElements_removesEveryOccurrence() {
+        // The first value occurs twice, and some values to be removed are not in this list.
+        java.util.List<Integer> valuesToRemove =
+                java.util.List.of(VALUES.getFirst(), VALUES.get(2), -1, VALUES.getLast(), -2);
+        java.util.List<Integer> expectedList = new ArrayList<>(VALUES);
+        expectedList.removeAll(valuesToRemove);
+
+        assertThat(list.removeAll(valuesToRemove)).isTrue();
+        assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+
+        assertThat(list.removeAll(VALUES)).isTrue();
+        assertThat(list).isEmpty();
+    }
+
     @Test
     void clear_removesAllElements() {
         emptyList.clear();
@@ -349,4 +398,62 @@ public abstract class ListTestBase {
         assertThrows(NoSuchElementException.class, it::next);
     }
 
+    @Test
+    void spliterator_isOrderedAndSized() {
+        Spliterator<Integer> emptySpliterator = emptyList.spliterator();
+        assertThat(emptySpliterator.getExactSizeIfKnown()).isEqualTo(0);
+        assertThat(emptySpliterator.tryAdvance(value -> {})).isFalse();
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(VALUES.size());
+    }
+
+    @Test
+    void spliterator_splitsIntoOrderedParts() {
+        java.util.List<Integer> traversed = new ArrayList<>();
+        splitAndTraverse(list.spliterator(), traversed);
+        assertThat(traversed).containsExactlyElementsIn(VALUES).inOrder();
+
+        // Traversing should not mutate the list.
+        assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+    }
+
+    private static void splitAndTraverse(Spliterator<Integer> spliterator,
+            java.util.List<Integer> traversed) {
+        final long size = spliterator.getExactSizeIfKnown();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(traversed::add);
+            return;
+        }
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown())
+                .isEqualTo(size);
+        splitAndTraverse(prefix, traversed);
+        splitAndTraverse(spliterator, traversed);
+    }
+
+    @Test
+    void stream_traversesStartToEnd() {
+        assertThat(emptyList.stream().toList()).isEmpty();
+        assertThat(list.stream().toList()).containsExactlyElementsIn(VALUES).inOrder();
+        assertThat(list.stream().isParallel()).isFalse();
+    }
+
+    @Test
+    void parallelStream_traversesStartToEnd() {
+        assertThat(emptyList.parallelStream().toList()).isEmpty();
+        assertThat(list.parallelStream().isParallel()).isTrue();
+
+        // Enough elements for the elements to be processed in several parts.
+        java.util.List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+        List<Integer> largeList = createList(values);
+        assertThat(largeList.parallelStream().toList()).containsExactlyElementsIn(values)
+                .inOrder();
+        assertThat(largeList.parallelStream().mapToLong(Integer::longValue).sum())
+                .isEqualTo(10_000L * 9_999 / 2);
+    }
+
 }
@@ -0,0 +1,143 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LongDynamicArrayTest {
+
+    private static final long[] VALUES = { 1L << 40, 400L, 700L, 200L, 500L, 300L, 600L, 1L << 40 };
+
+    private LongDynamicArray list;
+    private LongDynamicArray emptyList;
+
+    @BeforeEach
+    void setUp() {
+        list = new LongDynamicArray(VALUES);
+        emptyList = new LongDynamicArray();
+        assertThat(list.toArray()).isEqualTo(VALUES);
+        assertThat(emptyList.isEmpty()).isTrue();
+    }
+
+    @Test
+    void create_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> new LongDynamicArray(null));
+    }
+
+    @Test
+    void get_indexOutOfBound_fails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.getFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(VALUES.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(VALUES.length, 1L));
+    }
+
+    @Test
+    void getAndSet_accessElementAtIndex() {
+        assertThat(list.size()).isEqualTo(VALUES.length);
+        assertThat(list.getFirst()).isEqualTo(VALUES[0]);
+        assertThat(list.getLast()).isEqualTo(VALUES[VALUES.length - 1]);
+
+        assertThat(list.set(2, 1L)).isEqualTo(VALUES[2]);
+        assertThat(list.get(2)).isEqualTo(1L);
+    }
+
+    @Test
+    void add_beyondCapacity_shiftsElements() {
+        java.util.List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 3 * LongDynamicArray.DEFAULT_CAPACITY; ++i) {
+            final long value = (long) i;
+            if (i % 3 == 0) {
+                emptyList.addFirst(value);
+                expected.addFirst(value);
+            } else if (i % 3 == 1) {
+                emptyList.add(emptyList.size() / 2, value);
+                expected.add(expected.size() / 2, value);
+            } else {
+                emptyList.add(value);
+                expected.add(value);
+            }
+        }
+
+        assertThat(emptyList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            assertThat(emptyList.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(VALUES.length + 1, 1L));
+    }
+
+    @Test
+    void addAll_appendsAllElements() {
+        list.addAll(VALUES);
+        list.addAll(new long[0]);
+        assertThat(list.size()).isEqualTo(2 * VALUES.length);
+        for (int i = 0; i < VALUES.length; ++i) {
+            assertThat(list.get(VALUES.length + i)).isEqualTo(VALUES[i]);
+        }
+        assertThrows(NullPointerException.class, () -> list.addAll(null));
+    }
+
+    @Test
+    void indexOf_findsFirstAndLastOccurrence() {
+        assertThat(list.indexOf(VALUES[0])).isEqualTo(0);
+        assertThat(list.lastIndexOf(VALUES[0])).isEqualTo(VALUES.length - 1);
+        assertThat(list.contains(VALUES[3])).isTrue();
+        assertThat(list.contains(-1L)).isFalse();
+        assertThat(list.indexOf(-1L)).isEqualTo(-1);
+        assertThat(list.lastIndexOf(-1L)).isEqualTo(-1);
+    }
+
+    @Test
+    void remove_shiftsRemainingElements() {
+        assertThat(list.remove(1)).isEqualTo(VALUES[1]);
+        assertThat(list.removeFirst()).isEqualTo(VALUES[0]);
+        assertThat(list.removeLast()).isEqualTo(VALUES[VALUES.length - 1]);
+        assertThat(list.removeValue(VALUES[3])).isTrue();
+        assertThat(list.removeValue(-1L)).isFalse();
+        assertThat(list.toArray())
+                .isEqualTo(new long[] { VALUES[2], VALUES[4], VALUES[5], VALUES[6] });
+
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.removeFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.removeLast());
+    }
+
+    @Test
+    void clear_removesAllElements() {
+        list.clear();
+        assertThat(list.isEmpty()).isTrue();
+        list.add(1L);
+        assertThat(list.toArray()).isEqualTo(new long[] { 1L });
+    }
+
+    @Test
+    void reverse_reversesOrder() {
+        list.reverse();
+        for (int i = 0; i < VALUES.length; ++i) {
+            assertThat(list.get(i)).isEqualTo(VALUES[VALUES.length - 1 - i]);
+        }
+        emptyList.reverse();
+        assertThat(emptyList.isEmpty()).isTrue();
+    }
+
+    @Test
+    void iterator_returnsElementsInOrder() {
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        for (long value : VALUES) {
+            assertThat(iterator.hasNext()).isTrue();
+            assertThat(iterator.nextLong()).isEqualTo(value);
+        }
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::nextLong);
+        assertThrows(NoSuchElementException.class, () -> emptyList.iterator().nextLong());
+    }
+
+}
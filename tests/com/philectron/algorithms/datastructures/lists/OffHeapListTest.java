@@ -0,0 +1,215 @@
+package com.philectron.algorithms.datastructures.lists;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.philectron.algorithms.datastructures.interfaces.List;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Spliterator;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapListTest extends ListTestBase {
+
+    // 4 elements per chunk, so even the small lists of the tests span several chunks.
+    private static final int CHUNK_SHIFT = 2;
+
+    OffHeapListTest() {
+        super(false);
+    }
+
+    @Override
+    List<Integer> createList(Iterable<Integer> iterable) {
+        OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT, CHUNK_SHIFT);
+        list.addAll(iterable);
+        return list;
+    }
+
+    @Test
+    void create_invalidArguments_fails() {
+        assertThrows(NullPointerException.class, () -> new OffHeapList<Integer>(null));
+        assertThrows(NullPointerException.class,
+                () -> new OffHeapList<>(ElementLayout.INT, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapList<>(ElementLayout.INT, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapList<>(ElementLayout.LONG, 28));
+
+        ElementLayout<Integer> oddLayout = new ElementLayout<>() {
+            @Override
+            public int byteSize() {
+                return 3;
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return 0;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer element) {}
+        };
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(oddLayout));
+    }
+
+    @Test
+    void create_fromIterable_copiesAllElements() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT, VALUES)) {
+            assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+            assertThat(list.longSize()).isEqualTo(VALUES.size());
+        }
+    }
+
+    @Test
+    void add_allocatesChunksAsNeeded() {
+        try (OffHeapList<Long> list = new OffHeapList<>(ElementLayout.LONG, CHUNK_SHIFT)) {
+            assertThat(list.getMemoryFootprintBytes()).isEqualTo(0);
+
+            list.add(1L);
+            assertThat(list.getMemoryFootprintBytes()).isEqualTo(4 * Long.BYTES);
+
+            for (long i = 2; i <= 5; ++i) {
+                list.add(i);
+            }
+            assertThat(list.getMemoryFootprintBytes()).isEqualTo(2 * 4 * Long.BYTES);
+        }
+    }
+
+    @Test
+    void add_smallList_allocatesSmallFirstChunk() {
+        try (OffHeapList<Long> list = new OffHeapList<>(ElementLayout.LONG)) {
+            list.add(1L);
+            assertThat(list.getMemoryFootprintBytes())
+                    .isEqualTo(OffHeapList.MIN_FIRST_CHUNK_CAPACITY * Long.BYTES);
+        }
+    }
+
+    @Test
+    void add_growingFirstChunk_keepsElements() {
+        final int chunkShift = 6;
+        java.util.List<Integer> expectedList = new ArrayList<>();
+
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT, chunkShift)) {
+            // The first chunk doubles from the minimum to a full chunk, then full chunks follow.
+            for (int capacity : new int[] { 16, 32, 64, 128, 192 }) {
+                while (expectedList.size() < capacity) {
+                    expectedList.addFirst(expectedList.size());
+                    list.addFirst(expectedList.getFirst());
+                }
+                assertThat(list.getMemoryFootprintBytes()).isEqualTo(capacity * Integer.BYTES);
+                assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+            }
+        }
+    }
+
+    @Test
+    void addAndRemove_acrossChunks_matchesArrayList() {
+        Random random = new Random(42);
+        java.util.List<Double> expectedList = new ArrayList<>();
+
+        try (OffHeapList<Double> list = new OffHeapList<>(ElementLayout.DOUBLE, CHUNK_SHIFT)) {
+            for (int i = 0; i < 2_000; ++i) {
+                if (expectedList.isEmpty() || random.nextInt(3) > 0) {
+                    final int position = random.nextInt(expectedList.size() + 1);
+                    final double value = random.nextDouble();
+                    expectedList.add(position, value);
+                    assertThat(list.add(position, value)).isTrue();
+                } else {
+                    final int index = random.nextInt(expectedList.size());
+                    assertThat(list.remove(index)).isEqualTo(expectedList.remove(index));
+                }
+            }
+            assertThat(list).containsExactlyElementsIn(expectedList).inOrder();
+        }
+    }
+
+    @Test
+    void longIndexedMethods_matchIntIndexedMethods() {
+        try (OffHeapList<Long> list = new OffHeapList<>(ElementLayout.LONG, CHUNK_SHIFT)) {
+            for (long i = 0; i < 10; ++i) {
+                assertThat(list.add(i, i * i)).isTrue();
+            }
+            assertThat(list.get(3L)).isEqualTo(9L);
+            assertThat(list.set(3L, -1L)).isEqualTo(9L);
+            assertThat(list.get(3)).isEqualTo(-1L);
+
+            assertThat(list.longIndexOf(-1L)).isEqualTo(3);
+            assertThat(list.longLastIndexOf(81L)).isEqualTo(9);
+            assertThat(list.longIndexOf(null)).isEqualTo(-1);
+            assertThat(list.longIndexOf(2L)).isEqualTo(-1);
+
+            assertThat(list.removeAt(0L)).isEqualTo(0L);
+            assertThat(list.longSize()).isEqualTo(9);
+            assertThat(list.getFirst()).isEqualTo(1L);
+
+            // A long argument to remove() is an element, never an index.
+            assertThat(list.remove(81L)).isTrue();
+            assertThat(list.remove(5L)).isFalse();
+            assertThat(list.longSize()).isEqualTo(8);
+            assertThat(list.getLast()).isEqualTo(64L);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(8L));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1L));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(9L, 0L));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(8L));
+        }
+    }
+
+    @Test
+    void clear_keepsChunksForReuse() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT, CHUNK_SHIFT)) {
+            list.addAll(VALUES);
+            final long footprint = list.getMemoryFootprintBytes();
+
+            list.clear();
+            assertThat(list).isEmpty();
+            assertThat(list.getMemoryFootprintBytes()).isEqualTo(footprint);
+
+            list.addAll(VALUES);
+            assertThat(list).containsExactlyElementsIn(VALUES).inOrder();
+            assertThat(list.getMemoryFootprintBytes()).isEqualTo(footprint);
+        }
+    }
+
+    @Test
+    void close_releasesChunks_thenFails() {
+        OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT, CHUNK_SHIFT);
+        list.addAll(VALUES);
+
+        list.close();
+        assertThat(list.longSize()).isEqualTo(0);
+        assertThat(list.getMemoryFootprintBytes()).isEqualTo(0);
+
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.add(1));
+        assertThrows(IllegalStateException.class, () -> list.indexOf(1));
+        assertThrows(IllegalStateException.class, list::iterator);
+
+        list.close(); // closing again has no effect
+    }
+
+    @Test
+    void spliterator_splitsByIndexInHalves() {
+        try (OffHeapList<Integer> list = new OffHeapList<>(ElementLayout.INT, CHUNK_SHIFT)) {
+            list.addAll(VALUES);
+            Spliterator<Integer> spliterator = list.spliterator();
+
+            Spliterator<Integer> prefix = spliterator.trySplit();
+            assertThat(prefix.getExactSizeIfKnown()).isEqualTo(VALUES.size() / 2);
+            assertThat(spliterator.getExactSizeIfKnown())
+                    .isEqualTo(VALUES.size() - VALUES.size() / 2);
+
+            java.util.List<Integer> traversed = new ArrayList<>();
+            prefix.forEachRemaining(traversed::add);
+            assertThat(spliterator.tryAdvance(traversed::add)).isTrue();
+            assertThat(spliterator.getExactSizeIfKnown())
+                    .isEqualTo(VALUES.size() - VALUES.size() / 2 - 1);
+            spliterator.forEachRemaining(traversed::add);
+            assertThat(traversed).containsExactlyElementsIn(VALUES).inOrder();
+
+            assertThat(spliterator.trySplit()).isNull();
+        }
+    }
+
+}
@@ -88,4 +88,39 @@ public class AssertionTest {
         assertThat(Assertion.assertPositionIndex(index, index)).isEqualTo(index);
     }
 
+    @Test
+    void assertPositionIndex_longIndexBeyondIntRange_returnsIndex() {
+        final long index = Integer.MAX_VALUE + 1L;
+        assertThat(Assertion.assertPositionIndex(index, index)).isEqualTo(index);
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndex(index + 1, index));
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndex(0L, -1L));
+    }
+
+    @Test
+    void assertPositionIndexes_negativeSize_fails() {
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndexes(0, 0, -1));
+    }
+
+    @Test
+    void assertPositionIndexes_outOfBoundIndexes_fails() {
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndexes(2, 2, 1));
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndexes(-1, 0, 1));
+
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndexes(0, 2, 1));
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndexes(0, -1, 1));
+    }
+
+    @Test
+    void assertPositionIndexes_outOfOrderIndexes_fails() {
+        assertThrows(AssertionError.class, () -> Assertion.assertPositionIndexes(1, 0, 2));
+    }
+
+    @Test
+    void assertPositionIndexes_validIndexes_succeeds() {
+        Assertion.assertPositionIndexes(0, 0, 0);
+        Assertion.assertPositionIndexes(0, 1, 1);
+        Assertion.assertPositionIndexes(1, 1, 1);
+        Assertion.assertPositionIndexes(0, Integer.MAX_VALUE + 1L, Integer.MAX_VALUE + 1L);
+    }
+
 }
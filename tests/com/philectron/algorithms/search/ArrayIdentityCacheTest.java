@@ -0,0 +1,136 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ArrayIdentityCacheTest {
+
+    // Computes a new object on every load, so tests can tell loads apart by identity.
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ArrayIdentityCache<Object> newCache(long maximumSize) {
+        return new ArrayIdentityCache<>(maximumSize, array -> {
+            loads.incrementAndGet();
+            return new Object();
+        });
+    }
+
+    @Test
+    void create_invalidArguments_fails() {
+        assertThrows(IllegalArgumentException.class, () -> newCache(0));
+        assertThrows(NullPointerException.class, () -> new ArrayIdentityCache<>(1, null));
+    }
+
+    @Test
+    void nullArray_fails() {
+        ArrayIdentityCache<Object> cache = newCache(1);
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+        assertThrows(NullPointerException.class, () -> cache.getIfPresent(null));
+        assertThrows(NullPointerException.class, () -> cache.invalidate(null));
+    }
+
+    @Test
+    void get_loadsOncePerArray() {
+        ArrayIdentityCache<Object> cache = newCache(2);
+        int[] array = { 1, 2, 3 };
+
+        assertThat(cache.getIfPresent(array)).isNull();
+        Object value = cache.get(array);
+        for (int i = 0; i < 2 * ArrayIdentityCache.MEMO_ACCESS_INTERVAL; ++i) {
+            assertThat(cache.get(array)).isSameInstanceAs(value);
+        }
+        assertThat(cache.getIfPresent(array)).isSameInstanceAs(value);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_equalArrays_loadsEach() {
+        ArrayIdentityCache<Object> cache = newCache(2);
+        int[] array = { 1, 2, 3 };
+        int[] equalArray = array.clone();
+
+        assertThat(cache.get(array)).isNotSameInstanceAs(cache.get(equalArray));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_moreArraysThanMaximum_evictsLeastRecentlyUsed() {
+        ArrayIdentityCache<Object> cache = newCache(2);
+        int[] array = new int[1];
+        int[] otherArray = new int[1];
+        cache.get(otherArray);
+        cache.get(array);
+        assertThat(cache.getIfPresent(otherArray)).isNotNull();
+
+        // Only the last lookup remembers these lookups, yet they still count as accesses.
+        for (int i = 0; i < 2 * ArrayIdentityCache.MEMO_ACCESS_INTERVAL; ++i) {
+            cache.get(array);
+        }
+        cache.get(new int[1]);
+        assertThat(cache.getIfPresent(array)).isNotNull();
+        assertThat(cache.getIfPresent(otherArray)).isNull();
+    }
+
+    @Test
+    void get_afterInvalidate_loadsAgain() {
+        ArrayIdentityCache<Object> cache = newCache(1);
+        int[] array = new int[1];
+        Object value = cache.get(array);
+
+        cache.invalidate(array);
+        assertThat(cache.getIfPresent(array)).isNull();
+        assertThat(cache.get(array)).isNotSameInstanceAs(value);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_invalidatedAfterCacheRead_doesNotReuseValue() {
+        AtomicBoolean invalidateAfterLoad = new AtomicBoolean();
+        ArrayIdentityCache<Object> cache = new ArrayIdentityCache<>(1, array -> {
+            loads.incrementAndGet();
+            return new Object();
+        }) {
+            @Override
+            Object load(int[] array) {
+                Object value = super.load(array);
+                if (invalidateAfterLoad.getAndSet(false)) {
+                    invalidate(array);
+                }
+                return value;
+            }
+        };
+        int[] array = new int[1];
+        Object value = cache.get(array);
+
+        // Another thread invalidates the array after this lookup read the cache, but before it
+        // remembers the value as its last lookup.
+        cache.invalidate(array);
+        invalidateAfterLoad.set(true);
+        Object staleValue = cache.get(array);
+        assertThat(staleValue).isNotSameInstanceAs(value);
+
+        assertThat(cache.get(array)).isNotSameInstanceAs(staleValue);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void get_unreachableArray_releasesValue() {
+        ArrayIdentityCache<Object> cache = newCache(1);
+        int[] array = new int[1];
+        WeakReference<Object> value = new WeakReference<>(cache.get(array));
+
+        // The last lookup still refers to the array, but must not keep its value alive.
+        array = null;
+        for (int i = 0; i < 100 && value.get() != null; ++i) {
+            System.gc();
+            cache.cleanUp();
+        }
+        assertThat(value.get()).isNull();
+    }
+
+}
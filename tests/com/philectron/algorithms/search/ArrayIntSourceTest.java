@@ -0,0 +1,34 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ArrayIntSourceTest {
+
+    @Test
+    void create_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> new ArrayIntSource(null));
+    }
+
+    @Test
+    void get_readsArrayWithoutCopying() {
+        int[] array = { 3, 1, 4 };
+        ArrayIntSource source = new ArrayIntSource(array);
+        assertThat(source.size()).isEqualTo(3L);
+        assertThat(source.get(0)).isEqualTo(3);
+
+        array[2] = 5;
+        assertThat(source.get(2)).isEqualTo(5);
+    }
+
+    @Test
+    void get_indexOutOfBounds_fails() {
+        ArrayIntSource source = new ArrayIntSource(new int[2]);
+        assertThrows(IndexOutOfBoundsException.class, () -> source.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> source.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> source.get(1L << 32));
+    }
+
+}
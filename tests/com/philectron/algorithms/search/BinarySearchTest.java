@@ -1,9 +1,117 @@
 package com.philectron.algorithms.search;
 
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
 public class BinarySearchTest extends SearchTestBase {
 
+    private final BinarySearch search = new BinarySearch();
+
     BinarySearchTest() {
         super(new BinarySearch(), true);
     }
 
+    @Test
+    void searchSource_nullSource_fails() {
+        assertThrows(NullPointerException.class, () -> search.findFirst((IntSource) null, 0));
+        assertThrows(NullPointerException.class, () -> search.findLast((IntSource) null, 0));
+    }
+
+    @Test
+    void searchSource_matchesArraySearch() {
+        Random random = new Random(42);
+        int[] array = random.ints(500, 0, 200).toArray();
+        Arrays.sort(array);
+        IntSource source = new ArrayIntSource(array);
+
+        for (int target = -1; target <= 200; ++target) {
+            assertThat(search.findFirst(source, target))
+                    .isEqualTo((long) search.findFirst(array, target));
+            assertThat(search.findLast(source, target))
+                    .isEqualTo((long) search.findLast(array, target));
+        }
+        assertThat(search.findFirst(new ArrayIntSource(new int[0]), 0)).isEqualTo(-1L);
+    }
+
+    @Test
+    void searchPrimitives_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> search.findFirst((long[]) null, 0L));
+        assertThrows(NullPointerException.class, () -> search.findLast((double[]) null, 0.0));
+        assertThrows(NullPointerException.class, () -> search.contains((char[]) null, 'a'));
+        assertThrows(NullPointerException.class,
+                () -> search.findFirst(null, "a", Comparator.naturalOrder()));
+        assertThrows(NullPointerException.class, () -> search.findLast(new String[0], "a", null));
+    }
+
+    @Test
+    void searchPrimitives_matchesLinearSearch() {
+        LinearSearch reference = new LinearSearch();
+        Random random = new Random(42);
+
+        long[] longs = random.longs(300, -100, 100).map(i -> i * (1L << 40)).toArray();
+        Arrays.sort(longs);
+        char[] chars = new char[300];
+        for (int i = 0; i < chars.length; ++i) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        Arrays.sort(chars);
+
+        for (long i = -101; i <= 101; ++i) {
+            final long target = i * (1L << 40);
+            assertThat(search.findFirst(longs, target))
+                    .isEqualTo(reference.findFirst(longs, target));
+            assertThat(search.findLast(longs, target))
+                    .isEqualTo(reference.findLast(longs, target));
+            assertThat(search.contains(longs, target))
+                    .isEqualTo(reference.contains(longs, target));
+        }
+        for (char target = 'a' - 1; target <= 'z' + 1; ++target) {
+            assertThat(search.findFirst(chars, target))
+                    .isEqualTo(reference.findFirst(chars, target));
+            assertThat(search.findLast(chars, target))
+                    .isEqualTo(reference.findLast(chars, target));
+            assertThat(search.contains(chars, target))
+                    .isEqualTo(reference.contains(chars, target));
+        }
+    }
+
+    @Test
+    void searchDoubles_ordersLikeArraysSort() {
+        double[] doubles = { Double.NaN, 1.5, -0.0, 0.0, Double.NEGATIVE_INFINITY, 0.0, -2.5,
+                Double.NaN, Double.POSITIVE_INFINITY, 1.5 };
+        Arrays.sort(doubles);
+
+        LinearSearch reference = new LinearSearch();
+        for (double target : new double[] { Double.NaN, -0.0, 0.0, 1.5, -2.5, 3.0,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY }) {
+            assertThat(search.findFirst(doubles, target))
+                    .isEqualTo(reference.findFirst(doubles, target));
+            assertThat(search.findLast(doubles, target))
+                    .isEqualTo(reference.findLast(doubles, target));
+            assertThat(search.contains(doubles, target))
+                    .isEqualTo(reference.contains(doubles, target));
+        }
+        assertThat(search.findFirst(doubles, -0.0)).isEqualTo(2);
+        assertThat(search.findLast(doubles, 0.0)).isEqualTo(4);
+        assertThat(search.findFirst(doubles, Double.NaN)).isEqualTo(8);
+    }
+
+    @Test
+    void searchObjects_usesComparatorOrder() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        String[] strings = { "a", "bb", "cc", "ddd", "e", "ffff", "gg" };
+        Arrays.sort(strings, byLength.reversed());
+
+        // Elements of equal length compare as equal.
+        assertThat(search.findFirst(strings, "xx", byLength.reversed())).isEqualTo(2);
+        assertThat(search.findLast(strings, "xx", byLength.reversed())).isEqualTo(4);
+        assertThat(search.contains(strings, "xxxxx", byLength.reversed())).isFalse();
+        assertThat(search.findFirst(new String[0], "x", byLength)).isEqualTo(-1);
+    }
+
 }
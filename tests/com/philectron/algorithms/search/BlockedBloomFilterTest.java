@@ -0,0 +1,81 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.Range;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class BlockedBloomFilterTest {
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    void create_invalidArguments_fails() {
+        assertThrows(NullPointerException.class, () -> new BlockedBloomFilter(null));
+        for (double probability : new double[] { 0, 1, -0.5, 2, Double.NaN }) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BlockedBloomFilter(new int[1], probability));
+        }
+    }
+
+    @Test
+    void mightContain_emptyArray_rejectsEverything() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(new int[0]);
+        for (int value = -100; value <= 100; ++value) {
+            assertThat(filter.mightContain(value)).isFalse();
+        }
+    }
+
+    @Test
+    void mightContain_addedElements_neverMissed() {
+        int[] array = new Random(42).ints(SIZE).toArray();
+        BlockedBloomFilter filter = new BlockedBloomFilter(array);
+        for (int element : array) {
+            assertWithMessage("Whether filter might contain %s", element)
+                    .that(filter.mightContain(element))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_missingValues_stayNearFalsePositiveProbability() {
+        // Even values are added and odd values are missing.
+        int[] array = new Random(42).ints(SIZE).map(i -> i & ~1).toArray();
+
+        for (double probability : new double[] { 0.1, 0.01, 0.001 }) {
+            BlockedBloomFilter filter = new BlockedBloomFilter(array, probability);
+            assertThat(filter.getFalsePositiveProbability()).isEqualTo(probability);
+
+            Random random = new Random(7);
+            int falsePositives = 0;
+            for (int i = 0; i < SIZE; ++i) {
+                falsePositives += filter.mightContain(random.nextInt() | 1) ? 1 : 0;
+            }
+            assertWithMessage("False positive rate for probability %s", probability)
+                    .that((double) falsePositives / SIZE)
+                    .isLessThan(2 * probability);
+        }
+    }
+
+    @Test
+    void statistics_lowerProbability_takesMoreMemory() {
+        int[] array = new Random(42).ints(SIZE).toArray();
+        BlockedBloomFilter coarse = new BlockedBloomFilter(array, 0.1);
+        BlockedBloomFilter fine = new BlockedBloomFilter(array, 0.001);
+
+        assertThat(coarse.getHashFunctionCount()).isLessThan(fine.getHashFunctionCount());
+        assertThat(coarse.getMemoryFootprintBytes()).isLessThan(fine.getMemoryFootprintBytes());
+
+        // A classic Bloom filter needs 9.6 bits per element for a 1% false positive probability,
+        // and blocks need a little more, rounded up to whole blocks.
+        BlockedBloomFilter standard = new BlockedBloomFilter(array);
+        assertThat(standard.getMemoryFootprintBytes() % 64).isEqualTo(0);
+        assertThat(standard.getMemoryFootprintBytes()).isIn(
+                Range.closed(SIZE * 96L / 80, SIZE * 11L / 8));
+        assertThat(new BlockedBloomFilter(new int[0]).getMemoryFootprintBytes()).isEqualTo(64L);
+    }
+
+}
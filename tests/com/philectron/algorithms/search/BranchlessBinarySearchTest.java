@@ -0,0 +1,57 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class BranchlessBinarySearchTest extends SearchTestBase {
+
+    private final BranchlessBinarySearch search = new BranchlessBinarySearch();
+
+    BranchlessBinarySearchTest() {
+        super(new BranchlessBinarySearch(), true);
+    }
+
+    @Test
+    void bounds_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> search.lowerBound(null, 0));
+        assertThrows(NullPointerException.class, () -> search.upperBound(null, 0));
+    }
+
+    @Test
+    void bounds_matchLinearScan() {
+        int[][] sortedArrays = {
+            {},
+            { 5 },
+            { 1, 1, 1, 1 },
+            { 1, 2, 2, 3, 5, 5, 5, 8 },
+            { Integer.MIN_VALUE, -1, 0, 0, 7, Integer.MAX_VALUE, Integer.MAX_VALUE },
+        };
+
+        for (int[] sortedArray : sortedArrays) {
+            for (int target : new int[] { Integer.MIN_VALUE, -1, 0, 1, 2, 4, 5, 8, 9,
+                    Integer.MAX_VALUE }) {
+                int expectedLowerBound = 0;
+                while (expectedLowerBound < sortedArray.length
+                        && sortedArray[expectedLowerBound] < target) {
+                    ++expectedLowerBound;
+                }
+                int expectedUpperBound = expectedLowerBound;
+                while (expectedUpperBound < sortedArray.length
+                        && sortedArray[expectedUpperBound] == target) {
+                    ++expectedUpperBound;
+                }
+
+                assertWithMessage("Lower bound of %s in %s", target, Arrays.toString(sortedArray))
+                        .that(search.lowerBound(sortedArray, target))
+                        .isEqualTo(expectedLowerBound);
+                assertWithMessage("Upper bound of %s in %s", target, Arrays.toString(sortedArray))
+                        .that(search.upperBound(sortedArray, target))
+                        .isEqualTo(expectedUpperBound);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class CachedIndexSearchTest extends SearchTestBase {
+
+    // Advances by a fixed step on every reading.
+    private static class FakeTicker extends Ticker {
+        private final long stepNanos;
+        private long nanos = 0;
+
+        private FakeTicker(long stepNanos) {
+            this.stepNanos = stepNanos;
+        }
+
+        @Override
+        public long read() {
+            final long current = nanos;
+            nanos += stepNanos;
+            return current;
+        }
+    }
+
+    CachedIndexSearchTest() {
+        super(new CachedIndexSearch(), true);
+    }
+
+    /**
+     * Creates a search that builds indices on the querying thread, so that they are ready as soon
+     * as the query triggering the build returns.
+     */
+    private static CachedIndexSearch newSearch(long maximumCachedArrays, Ticker ticker) {
+        return new CachedIndexSearch(maximumCachedArrays, ticker, MoreExecutors.directExecutor());
+    }
+
+    private static CachedIndexSearch newSearch() {
+        return newSearch(CachedIndexSearch.DEFAULT_MAXIMUM_CACHED_ARRAYS, Ticker.systemTicker());
+    }
+
+    /**
+     * Runs the garbage collector until {@code reference} is cleared, failing if it never is.
+     */
+    private static void assertCollected(CachedIndexSearch search, WeakReference<?> reference) {
+        for (int i = 0; i < 100 && reference.get() != null; ++i) {
+            System.gc();
+            search.cleanUp();
+        }
+        assertThat(reference.get()).isNull();
+    }
+
+    private static int[] buildSortedArray(int length) {
+        int[] array = new Random(42).ints(length, 0, length).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * Searches every target of a fixed sequence in {@code array} until {@code queries} searches
+     * were made, checking each result against {@link BinarySearch}.
+     */
+    private static void searchAndAssert(CachedIndexSearch search, int[] array, long queries) {
+        BinarySearch reference = new BinarySearch();
+        for (long i = 0; i < queries; ++i) {
+            final int target = (int) (i * 31 % (array.length + 2)) - 1;
+            if (i % 2 == 0) {
+                assertThat(search.findFirst(array, target))
+                        .isEqualTo(reference.findFirst(array, target));
+            } else {
+                assertThat(search.findLast(array, target))
+                        .isEqualTo(reference.findLast(array, target));
+            }
+        }
+    }
+
+    @Test
+    void create_nonPositiveMaximum_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new CachedIndexSearch(0));
+    }
+
+    @Test
+    void invalidate_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> new CachedIndexSearch().invalidate(null));
+    }
+
+    @Test
+    void search_smallArray_isNeverIndexed() {
+        CachedIndexSearch search = newSearch();
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE - 1);
+
+        searchAndAssert(search, array, 10 * CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isNull();
+    }
+
+    @Test
+    void search_coldArray_isNotIndexed() {
+        CachedIndexSearch search = newSearch();
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX - 1);
+        assertThat(search.getCachedIndex(array)).isNull();
+    }
+
+    @Test
+    void search_hotMediumArray_buildsEytzingerIndex() {
+        CachedIndexSearch search = newSearch();
+        int[] array = buildSortedArray(CachedIndexSearch.MAX_EYTZINGER_SIZE);
+
+        searchAndAssert(search, array, 2 * CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isInstanceOf(EytzingerIndex.class);
+    }
+
+    @Test
+    void search_frequentlySearchedLargeArray_buildsStaticBTreeIndex() {
+        // The clock stands still, so the query rate is unbounded.
+        CachedIndexSearch search = newSearch(1, new FakeTicker(0));
+        int[] array = buildSortedArray(CachedIndexSearch.MAX_EYTZINGER_SIZE + 1);
+
+        searchAndAssert(search, array, 3 * CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isInstanceOf(StaticBTreeIndex.class);
+    }
+
+    @Test
+    void search_rarelySearchedLargeArray_buildsLearnedIndex() {
+        // An hour passes between the first query and the build.
+        CachedIndexSearch search = newSearch(1, new FakeTicker(TimeUnit.HOURS.toNanos(1)));
+        int[] array = buildSortedArray(CachedIndexSearch.MAX_EYTZINGER_SIZE + 1);
+
+        searchAndAssert(search, array, 3 * CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isInstanceOf(LearnedIndex.class);
+    }
+
+    @Test
+    void search_hotArray_buildsIndexOnExecutor() {
+        Queue<Runnable> builds = new ArrayDeque<>();
+        CachedIndexSearch search =
+                new CachedIndexSearch(1, Ticker.systemTicker(), builds::add);
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+
+        // Queries keep using the binary search while the build is pending, and start no other.
+        searchAndAssert(search, array, 2 * CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isNull();
+        assertThat(builds).hasSize(1);
+
+        builds.remove().run();
+        assertThat(search.getCachedIndex(array)).isInstanceOf(EytzingerIndex.class);
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+    }
+
+    @Test
+    void search_unreachableArray_releasesIndex() {
+        CachedIndexSearch search = newSearch();
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        WeakReference<SearchIndex> index = new WeakReference<>(search.getCachedIndex(array));
+        assertThat(index.get()).isNotNull();
+
+        // The last query still refers to the array, but must not keep its index alive.
+        array = null;
+        assertCollected(search, index);
+    }
+
+    @Test
+    void search_evictedArray_releasesIndex() {
+        CachedIndexSearch search = newSearch(1, Ticker.systemTicker());
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        WeakReference<SearchIndex> index = new WeakReference<>(search.getCachedIndex(array));
+        assertThat(index.get()).isNotNull();
+
+        int[] otherArray = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+        searchAndAssert(search, otherArray, 1);
+        assertCollected(search, index);
+
+        // The evicted array is still searchable, and gets indexed again.
+        assertThat(search.getCachedIndex(array)).isNull();
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isNotNull();
+    }
+
+    @Test
+    void search_repeatedlySameArray_recordsCacheAccesses() {
+        CachedIndexSearch search = newSearch(2, Ticker.systemTicker());
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+        int[] otherArray = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        searchAndAssert(search, otherArray, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        searchAndAssert(search, array, 1);
+        assertThat(search.getCachedIndex(otherArray)).isNotNull();
+
+        // Only the last query remembers these searches, yet they still make the array recently
+        // used, so that the other array is the one evicted for a third array.
+        searchAndAssert(search, array, 2 * ArrayIdentityCache.MEMO_ACCESS_INTERVAL);
+        searchAndAssert(search, buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE), 1);
+        assertThat(search.getCachedIndex(array)).isNotNull();
+        assertThat(search.getCachedIndex(otherArray)).isNull();
+    }
+
+    @Test
+    void invalidate_discardsIndex() {
+        CachedIndexSearch search = newSearch();
+        int[] array = buildSortedArray(CachedIndexSearch.MIN_INDEXED_SIZE);
+        searchAndAssert(search, array, CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+        assertThat(search.getCachedIndex(array)).isNotNull();
+
+        // After modifying and invalidating, searches see the new elements.
+        Arrays.fill(array, 7);
+        search.invalidate(array);
+        assertThat(search.getCachedIndex(array)).isNull();
+        searchAndAssert(search, array, 2 * CachedIndexSearch.MIN_QUERIES_TO_INDEX);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class ExponentialSearchTest extends SearchTestBase {
+
+    private final ExponentialSearch search = new ExponentialSearch();
+
+    ExponentialSearchTest() {
+        super(new ExponentialSearch(), true);
+    }
+
+    @Test
+    void search_everyPosition() {
+        Random random = new Random(0);
+        int[] sortedArray = random.ints(3000, 0, 2000).toArray();
+        Arrays.sort(sortedArray);
+
+        for (int target = -1; target <= 2000; ++target) {
+            assertWithMessage("First index of target %s", target)
+                    .that(search.findFirst(sortedArray, target))
+                    .isEqualTo(Ints.indexOf(sortedArray, target));
+            assertWithMessage("Last index of target %s", target)
+                    .that(search.findLast(sortedArray, target))
+                    .isEqualTo(Ints.lastIndexOf(sortedArray, target));
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.philectron.algorithms.search;
+
+public class EytzingerIndexTest extends SearchIndexTestBase {
+
+    EytzingerIndexTest() {
+        super(true);
+    }
+
+    @Override
+    SearchIndex createIndex(int[] array) {
+        return new EytzingerIndex(array);
+    }
+
+}
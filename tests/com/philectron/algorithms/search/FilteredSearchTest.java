@@ -0,0 +1,104 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class FilteredSearchTest extends SearchTestBase {
+
+    FilteredSearchTest() {
+        super(new FilteredSearch(new BinarySearch()), true);
+    }
+
+    @Test
+    void create_invalidArguments_fails() {
+        assertThrows(NullPointerException.class, () -> new FilteredSearch(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FilteredSearch(new BinarySearch(), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FilteredSearch(new BinarySearch(), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FilteredSearch(new BinarySearch(), 0.1, 0));
+    }
+
+    @Test
+    void invalidate_nullArray_fails() {
+        assertThrows(NullPointerException.class,
+                () -> new FilteredSearch(new BinarySearch()).invalidate(null));
+    }
+
+    @Test
+    void search_smallArray_isNeverFiltered() {
+        FilteredSearch search = new FilteredSearch(new BinarySearch());
+        int[] array = new int[FilteredSearch.MIN_FILTERED_SIZE - 1];
+
+        assertThat(search.contains(array, 0)).isTrue();
+        assertThat(search.getCachedFilter(array)).isNull();
+    }
+
+    @Test
+    void search_unsortedArray_matchesDelegate() {
+        LinearSearch reference = new LinearSearch();
+        FilteredSearch search = new FilteredSearch(reference, 0.1);
+        assertThat(search.getFalsePositiveProbability()).isEqualTo(0.1);
+
+        int[] array = new Random(42).ints(5_000, 0, 10_000).toArray();
+        for (int target = -1; target <= 10_000; ++target) {
+            assertThat(search.findFirst(array, target))
+                    .isEqualTo(reference.findFirst(array, target));
+            assertThat(search.findLast(array, target))
+                    .isEqualTo(reference.findLast(array, target));
+            assertThat(search.contains(array, target))
+                    .isEqualTo(reference.contains(array, target));
+        }
+        assertThat(search.getCachedFilter(array)).isNotNull();
+    }
+
+    @Test
+    void search_sortedArray_boundsIgnoreFilter() {
+        BinarySearch reference = new BinarySearch();
+        FilteredSearch search = new FilteredSearch(reference);
+
+        int[] array = new Random(42).ints(1_000, 0, 2_000).toArray();
+        Arrays.sort(array);
+        for (int target = -1; target <= 2_000; ++target) {
+            assertThat(search.equalRange(array, target))
+                    .isEqualTo(reference.equalRange(array, target));
+        }
+    }
+
+    @Test
+    void search_moreArraysThanMaximum_evictsLeastRecentlySearched() {
+        FilteredSearch search = new FilteredSearch(new LinearSearch(), 0.1, 2);
+        int[][] arrays = new int[3][FilteredSearch.MIN_FILTERED_SIZE];
+
+        assertThat(search.contains(arrays[0], 1)).isFalse();
+        assertThat(search.contains(arrays[1], 1)).isFalse();
+        assertThat(search.contains(arrays[0], 1)).isFalse();
+        assertThat(search.contains(arrays[2], 1)).isFalse();
+
+        assertThat(search.getCachedFilter(arrays[0])).isNotNull();
+        assertThat(search.getCachedFilter(arrays[1])).isNull();
+        assertThat(search.getCachedFilter(arrays[2])).isNotNull();
+    }
+
+    @Test
+    void invalidate_modifiedArray_rebuildsFilter() {
+        FilteredSearch search = new FilteredSearch(new LinearSearch());
+        int[] array = new int[FilteredSearch.MIN_FILTERED_SIZE];
+
+        assertThat(search.contains(array, 1)).isFalse();
+        BlockedBloomFilter filter = search.getCachedFilter(array);
+        assertThat(filter).isNotNull();
+
+        array[0] = 1;
+        search.invalidate(array);
+        assertThat(search.getCachedFilter(array)).isNull();
+        assertThat(search.contains(array, 1)).isTrue();
+        assertThat(search.getCachedFilter(array)).isNotSameInstanceAs(filter);
+    }
+
+}
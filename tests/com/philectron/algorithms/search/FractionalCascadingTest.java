@@ -0,0 +1,100 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class FractionalCascadingTest {
+
+    private static List<int[]> buildSortedArrays(int numArrays, int maxLength, int bound) {
+        Random random = new Random(42);
+        List<int[]> arrays = new ArrayList<>();
+        for (int i = 0; i < numArrays; ++i) {
+            int[] array = random.ints(random.nextInt(maxLength + 1), 0, bound).toArray();
+            Arrays.sort(array);
+            arrays.add(array);
+        }
+        return arrays;
+    }
+
+    @Test
+    void create_nullArguments_fails() {
+        assertThrows(NullPointerException.class, () -> new FractionalCascading(null));
+        assertThrows(NullPointerException.class,
+                () -> new FractionalCascading(Collections.singletonList(null)));
+    }
+
+    @Test
+    void lowerBounds_shortOutput_fails() {
+        FractionalCascading cascading = new FractionalCascading(buildSortedArrays(3, 10, 10));
+        assertThrows(NullPointerException.class, () -> cascading.lowerBounds(0, null));
+        assertThrows(IllegalArgumentException.class, () -> cascading.lowerBounds(0, new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> cascading.findFirst(0, new int[2]));
+    }
+
+    @Test
+    void lowerBounds_noArrays_returnsEmpty() {
+        FractionalCascading cascading = new FractionalCascading(List.of());
+        assertThat(cascading.getArrayCount()).isEqualTo(0);
+        assertThat(cascading.lowerBounds(0)).isEmpty();
+        assertThat(cascading.getMemoryOverheadBytes()).isEqualTo(0L);
+    }
+
+    @Test
+    void search_matchesBinarySearchInEveryArray() {
+        BinarySearch reference = new BinarySearch();
+
+        // Narrow value ranges make for many duplicates, wide ones for few.
+        for (int bound : new int[] { 5, 100, 10_000 }) {
+            List<int[]> arrays = buildSortedArrays(20, 200, bound);
+            arrays.add(3, new int[0]);
+            arrays.add(new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE });
+
+            FractionalCascading cascading = new FractionalCascading(arrays);
+            assertThat(cascading.getArrayCount()).isEqualTo(arrays.size());
+
+            int[] firsts = new int[arrays.size()];
+            for (int target : new Random(7).ints(500, -1, bound + 1).toArray()) {
+                int[] lowerBounds = cascading.lowerBounds(target);
+                cascading.findFirst(target, firsts);
+                for (int i = 0; i < arrays.size(); ++i) {
+                    assertWithMessage("Lower bound of %s in array %s", target, i)
+                            .that(lowerBounds[i])
+                            .isEqualTo(reference.lowerBound(arrays.get(i), target));
+                    assertWithMessage("First index of %s in array %s", target, i)
+                            .that(firsts[i])
+                            .isEqualTo(reference.findFirst(arrays.get(i), target));
+                }
+            }
+        }
+    }
+
+    @Test
+    void create_copiesArrays() {
+        int[] array = { 1, 2, 3 };
+        FractionalCascading cascading = new FractionalCascading(List.of(array));
+        array[0] = 5;
+        assertThat(cascading.lowerBounds(1)).asList().containsExactly(0);
+    }
+
+    @Test
+    void statistics_catalogsStayWithinTwiceTheArrays() {
+        List<int[]> arrays = buildSortedArrays(50, 1_000, 1_000_000);
+        long totalLength = arrays.stream().mapToLong(array -> array.length).sum();
+
+        FractionalCascading cascading = new FractionalCascading(arrays);
+        assertThat(cascading.getBuildTimeNanos()).isAtLeast(0L);
+
+        // Each catalog element comes with up to two positions.
+        assertThat(cascading.getMemoryOverheadBytes())
+                .isAtMost(3 * (2 * totalLength + 2L * arrays.size()) * Integer.BYTES);
+    }
+
+}
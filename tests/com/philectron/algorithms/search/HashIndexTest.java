@@ -0,0 +1,57 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.primitives.Ints;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class HashIndexTest extends SearchIndexTestBase {
+
+    HashIndexTest() {
+        super(false);
+    }
+
+    @Override
+    SearchIndex createIndex(int[] array) {
+        return new HashIndex(array);
+    }
+
+    @Test
+    void search_clusteredKeys_matchesLinearSearch() {
+        // Multiples of a large power of two and runs of consecutive keys, both of which would
+        // collide under a hash that only keeps the low bits.
+        int[] array = new int[4_000];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = i % 2 == 0 ? (i / 4) << 20 : -1 - i / 4;
+        }
+
+        HashIndex index = new HashIndex(array);
+        for (int i = -1_100; i < 1_100; ++i) {
+            for (int target : new int[] { i, i << 20 }) {
+                assertThat(index.findFirst(target)).isEqualTo(Ints.indexOf(array, target));
+                assertThat(index.findLast(target)).isEqualTo(Ints.lastIndexOf(array, target));
+            }
+        }
+    }
+
+    @Test
+    void create_copiesPositions() {
+        int[] array = { 3, 1, 3 };
+        HashIndex index = new HashIndex(array);
+        array[0] = 1;
+        assertThat(index.findFirst(3)).isEqualTo(0);
+        assertThat(index.findFirst(1)).isEqualTo(1);
+    }
+
+    @Test
+    void statistics_tableStaysAtMostHalfFull() {
+        int[] array = new Random(42).ints(1_000).toArray();
+        HashIndex index = new HashIndex(array);
+
+        // 1000 elements need 2048 slots of 12 bytes each.
+        assertThat(index.getMemoryOverheadBytes()).isEqualTo(2_048L * 12);
+        assertThat(index.getBuildTimeNanos()).isAtLeast(0L);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class HybridSearchTest extends SearchTestBase {
+
+    HybridSearchTest() {
+        super(new HybridSearch(), true);
+    }
+
+    @Test
+    void create_negativeThreshold_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new HybridSearch(-1));
+    }
+
+    @Test
+    void search_lengthsAroundThreshold() {
+        final int threshold = 16;
+        HybridSearch search = new HybridSearch(threshold);
+        Random random = new Random(42);
+
+        for (int length = threshold - 2; length <= threshold + 2; ++length) {
+            int[] array = random.ints(length, 0, 10).toArray();
+            Arrays.sort(array);
+            for (int target = -1; target <= 10; ++target) {
+                assertWithMessage("First index of %s in length %s", target, length)
+                        .that(search.findFirst(array, target))
+                        .isEqualTo(Ints.indexOf(array, target));
+                assertWithMessage("Last index of %s in length %s", target, length)
+                        .that(search.findLast(array, target))
+                        .isEqualTo(Ints.lastIndexOf(array, target));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    @Test
+    void create_invalidRange_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexRange(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IndexRange(2, 1));
+    }
+
+    @Test
+    void length_emptyRange() {
+        IndexRange range = new IndexRange(3, 3);
+        assertThat(range.length()).isEqualTo(0);
+        assertThat(range.isEmpty()).isTrue();
+    }
+
+    @Test
+    void length_nonEmptyRange() {
+        IndexRange range = new IndexRange(2, 5);
+        assertThat(range.length()).isEqualTo(3);
+        assertThat(range.isEmpty()).isFalse();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class InterpolationSearchTest extends SearchTestBase {
+
+    private final InterpolationSearch search = new InterpolationSearch();
+
+    InterpolationSearchTest() {
+        super(new InterpolationSearch(), true);
+    }
+
+    private void searchAllAndAssert(int[] sortedArray, int[] targets) {
+        for (int target : targets) {
+            assertWithMessage("First index of target %s", target)
+                    .that(search.findFirst(sortedArray, target))
+                    .isEqualTo(Ints.indexOf(sortedArray, target));
+            assertWithMessage("Last index of target %s", target)
+                    .that(search.findLast(sortedArray, target))
+                    .isEqualTo(Ints.lastIndexOf(sortedArray, target));
+        }
+    }
+
+    @Test
+    void search_uniformValues() {
+        Random random = new Random(0);
+        int[] sortedArray = random.ints(5000, 0, 10000).toArray();
+        Arrays.sort(sortedArray);
+        searchAllAndAssert(sortedArray, random.ints(1000, -10, 10010).toArray());
+    }
+
+    @Test
+    void search_skewedValues() {
+        // Squares crowd the small values together, and the extremes stretch the value range, so
+        // most interpolated probes land far from their targets.
+        int[] sortedArray = new int[2000];
+        sortedArray[0] = Integer.MIN_VALUE;
+        for (int i = 1; i < sortedArray.length - 1; ++i) {
+            sortedArray[i] = i * i;
+        }
+        sortedArray[sortedArray.length - 1] = Integer.MAX_VALUE;
+
+        int[] targets = new int[3000];
+        for (int i = 0; i < targets.length; ++i) {
+            targets[i] = i % 2 == 0 ? i * i : i;
+        }
+        searchAllAndAssert(sortedArray, targets);
+        searchAllAndAssert(sortedArray, new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE });
+    }
+
+}
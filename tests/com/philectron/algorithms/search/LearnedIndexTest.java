@@ -0,0 +1,76 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LearnedIndexTest extends SearchIndexTestBase {
+
+    LearnedIndexTest() {
+        super(true);
+    }
+
+    @Override
+    SearchIndex createIndex(int[] array) {
+        return new LearnedIndex(array);
+    }
+
+    @Test
+    void create_nonPositiveEpsilon_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new int[1], 0));
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new int[1], -1));
+    }
+
+    @Test
+    void search_skewedArray_matchesBinarySearch() {
+        // Runs of duplicates with gaps growing quadratically, plus both extreme values.
+        int[] array = new int[3_000];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = (i / 3) * (i / 3);
+        }
+        array[0] = Integer.MIN_VALUE;
+        array[array.length - 1] = Integer.MAX_VALUE;
+
+        BinarySearch reference = new BinarySearch();
+        for (int epsilon : new int[] { 1, 4, 64 }) {
+            LearnedIndex index = new LearnedIndex(array, epsilon);
+            for (int i = 0; i < 1_100; ++i) {
+                for (int target : new int[] { i, i * i, i * i + 1, i * i - 1 }) {
+                    assertThat(index.findFirst(target))
+                            .isEqualTo(reference.findFirst(array, target));
+                    assertThat(index.findLast(target))
+                            .isEqualTo(reference.findLast(array, target));
+                }
+            }
+        }
+    }
+
+    @Test
+    void statistics_evenlySpacedKeys_needOneSegment() {
+        int[] array = new int[1_000];
+        Arrays.setAll(array, i -> 3 * i);
+
+        LearnedIndex index = new LearnedIndex(array, 1);
+        assertThat(index.getEpsilon()).isEqualTo(1);
+        assertThat(index.getSegmentCount()).isEqualTo(1);
+        assertThat(index.getBuildTimeNanos()).isAtLeast(0L);
+        // The copy of the elements, plus one key, position, and slope.
+        assertThat(index.getMemoryOverheadBytes()).isEqualTo(1_000L * Integer.BYTES + 16L);
+    }
+
+    @Test
+    void statistics_smallerEpsilon_needsMoreSegments() {
+        Random random = new Random(42);
+        int[] array = random.ints(10_000, 0, 1_000_000).toArray();
+        Arrays.sort(array);
+
+        LearnedIndex coarse = new LearnedIndex(array, 256);
+        LearnedIndex fine = new LearnedIndex(array, 4);
+        assertThat(coarse.getSegmentCount()).isLessThan(fine.getSegmentCount());
+        assertThat(coarse.getMemoryOverheadBytes()).isLessThan(fine.getMemoryOverheadBytes());
+    }
+
+}
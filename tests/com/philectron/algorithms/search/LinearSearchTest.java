@@ -1,9 +1,154 @@
 package com.philectron.algorithms.search;
 
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
 public class LinearSearchTest extends SearchTestBase {
 
+    private final LinearSearch search = new LinearSearch();
+
     LinearSearchTest() {
         super(new LinearSearch(), false);
     }
 
+    @Test
+    void count_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> search.count(null, 0));
+    }
+
+    @Test
+    void count_matchesOccurrences() {
+        Random random = new Random(42);
+        int[] array = random.ints(1_000, 0, 10).toArray();
+        for (int target = -1; target <= 10; ++target) {
+            int expected = 0;
+            for (int element : array) {
+                expected += element == target ? 1 : 0;
+            }
+            assertWithMessage("Count of %s", target)
+                    .that(search.count(array, target))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void indexOfAny_nullArguments_fails() {
+        assertThrows(NullPointerException.class, () -> search.indexOfAny(null, new int[1]));
+        assertThrows(NullPointerException.class, () -> search.indexOfAny(new int[1], null));
+    }
+
+    @Test
+    void indexOfAny_emptyTargets_returnsNotFound() {
+        assertWithMessage("Index of no targets")
+                .that(search.indexOfAny(new int[] { 1, 2, 3 }, new int[0]))
+                .isEqualTo(-1);
+    }
+
+    @Test
+    void indexOfAny_findsFirstMatchOfAnyTarget() {
+        Random random = new Random(42);
+        int[] array = random.ints(500, 0, 1_000).toArray();
+
+        // Few targets are scanned, many targets are binary searched.
+        for (int numTargets : new int[] { 1, 3, LinearSearch.MAX_SCANNED_TARGETS,
+                LinearSearch.MAX_SCANNED_TARGETS + 1, 100 }) {
+            for (int trial = 0; trial < 20; ++trial) {
+                int[] targets = random.ints(numTargets, 0, 1_000).toArray();
+
+                int expected = -1;
+                for (int i = 0; i < array.length && expected < 0; ++i) {
+                    if (Ints.contains(targets, array[i])) {
+                        expected = i;
+                    }
+                }
+
+                assertWithMessage("First index of any of %s targets", numTargets)
+                        .that(search.indexOfAny(array, targets))
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void searchSource_nullSource_fails() {
+        assertThrows(NullPointerException.class, () -> search.findFirst((IntSource) null, 0));
+        assertThrows(NullPointerException.class, () -> search.findLast((IntSource) null, 0));
+    }
+
+    @Test
+    void searchSource_matchesArraySearch() {
+        Random random = new Random(42);
+        int[] array = random.ints(500, 0, 200).toArray();
+        IntSource source = new ArrayIntSource(array);
+
+        for (int target = -1; target <= 200; ++target) {
+            assertWithMessage("First index of %s", target)
+                    .that(search.findFirst(source, target))
+                    .isEqualTo((long) search.findFirst(array, target));
+            assertWithMessage("Last index of %s", target)
+                    .that(search.findLast(source, target))
+                    .isEqualTo((long) search.findLast(array, target));
+        }
+    }
+
+    @Test
+    void searchPrimitives_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> search.findFirst((long[]) null, 0L));
+        assertThrows(NullPointerException.class, () -> search.findLast((double[]) null, 0.0));
+        assertThrows(NullPointerException.class, () -> search.contains((char[]) null, 'a'));
+        assertThrows(NullPointerException.class,
+                () -> search.findFirst(null, "a", Comparator.naturalOrder()));
+        assertThrows(NullPointerException.class, () -> search.findLast(new String[0], "a", null));
+    }
+
+    @Test
+    void searchPrimitives_matchesIntSearch() {
+        int[] array = new Random(42).ints(300, 0, 100).toArray();
+        long[] longs = Arrays.stream(array).asLongStream().toArray();
+        double[] doubles = Arrays.stream(array).asDoubleStream().toArray();
+        char[] chars = new char[array.length];
+        String[] strings = new String[array.length];
+        for (int i = 0; i < array.length; ++i) {
+            chars[i] = (char) array[i];
+            strings[i] = Integer.toString(array[i]);
+        }
+
+        for (int target = -1; target <= 100; ++target) {
+            final int first = search.findFirst(array, target);
+            final int last = search.findLast(array, target);
+            assertWithMessage("First index of %s", target)
+                    .that(List.of(search.findFirst(longs, target),
+                            search.findFirst(doubles, target),
+                            search.findFirst(chars, (char) target),
+                            search.findFirst(strings, Integer.toString(target),
+                                    Comparator.naturalOrder())))
+                    .containsExactly(first, first, target < 0 ? -1 : first, first);
+            assertWithMessage("Last index of %s", target)
+                    .that(List.of(search.findLast(longs, target),
+                            search.findLast(doubles, target),
+                            search.findLast(chars, (char) target),
+                            search.findLast(strings, Integer.toString(target),
+                                    Comparator.naturalOrder())))
+                    .containsExactly(last, last, target < 0 ? -1 : last, last);
+            assertThat(search.contains(longs, target)).isEqualTo(first >= 0);
+        }
+    }
+
+    @Test
+    void searchDoubles_comparesLikeDoubleCompare() {
+        double[] doubles = { 0.0, Double.NaN, -0.0, 1.0 };
+        assertThat(search.findFirst(doubles, Double.NaN)).isEqualTo(1);
+        assertThat(search.findLast(doubles, 0.0)).isEqualTo(0);
+        assertThat(search.findFirst(doubles, -0.0)).isEqualTo(2);
+        assertThat(search.contains(doubles, 2.0)).isFalse();
+    }
+
 }
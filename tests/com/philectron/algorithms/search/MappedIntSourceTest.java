@@ -0,0 +1,84 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedIntSourceTest {
+
+    @TempDir
+    Path directory;
+
+    private Path write(int[] array, ByteOrder byteOrder) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(array.length * Integer.BYTES).order(byteOrder);
+        buffer.asIntBuffer().put(array);
+        return Files.write(directory.resolve("ints.bin"), buffer.array());
+    }
+
+    @Test
+    void create_nullArguments_fails() throws IOException {
+        Path file = write(new int[1], ByteOrder.BIG_ENDIAN);
+        assertThrows(NullPointerException.class, () -> new MappedIntSource(null));
+        assertThrows(NullPointerException.class, () -> new MappedIntSource(file, null));
+    }
+
+    @Test
+    void create_partialInt_fails() throws IOException {
+        Path file = Files.write(directory.resolve("partial.bin"), new byte[6]);
+        assertThrows(IllegalArgumentException.class, () -> new MappedIntSource(file));
+    }
+
+    @Test
+    void create_invalidChunkShift_fails() throws IOException {
+        Path file = write(new int[1], ByteOrder.BIG_ENDIAN);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedIntSource(file, ByteOrder.BIG_ENDIAN, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MappedIntSource(file,
+                ByteOrder.BIG_ENDIAN, MappedIntSource.DEFAULT_CHUNK_SHIFT + 1));
+    }
+
+    @Test
+    void create_missingFile_fails() {
+        assertThrows(IOException.class, () -> new MappedIntSource(directory.resolve("missing")));
+    }
+
+    @Test
+    void get_emptyFile_hasNoElements() throws IOException {
+        MappedIntSource source = new MappedIntSource(write(new int[0], ByteOrder.BIG_ENDIAN));
+        assertThat(source.size()).isEqualTo(0L);
+        assertThrows(IndexOutOfBoundsException.class, () -> source.get(0));
+    }
+
+    @Test
+    void get_readsEveryElementAcrossChunks() throws IOException {
+        int[] array = new Random(42).ints(1_000).toArray();
+
+        for (ByteOrder byteOrder : new ByteOrder[] { ByteOrder.BIG_ENDIAN,
+                ByteOrder.LITTLE_ENDIAN }) {
+            Path file = write(array, byteOrder);
+
+            // Chunks of 1, 7, and 64 elements, plus the default of a single chunk.
+            for (MappedIntSource source : new MappedIntSource[] {
+                    new MappedIntSource(file, byteOrder, 0),
+                    new MappedIntSource(file, byteOrder, 3),
+                    new MappedIntSource(file, byteOrder, 6),
+                    new MappedIntSource(file, byteOrder) }) {
+                assertThat(source.size()).isEqualTo((long) array.length);
+                for (int i = 0; i < array.length; ++i) {
+                    assertThat(source.get(i)).isEqualTo(array[i]);
+                }
+                assertThrows(IndexOutOfBoundsException.class, () -> source.get(-1));
+                assertThrows(IndexOutOfBoundsException.class, () -> source.get(array.length));
+            }
+        }
+    }
+
+}
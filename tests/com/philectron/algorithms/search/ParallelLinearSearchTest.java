@@ -0,0 +1,58 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.Ints;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class ParallelLinearSearchTest extends SearchTestBase {
+
+    ParallelLinearSearchTest() {
+        super(new ParallelLinearSearch(), false);
+    }
+
+    @Test
+    void create_nonPositiveThreshold_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelLinearSearch(0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelLinearSearch(-1));
+    }
+
+    @Test
+    void search_manyChunks_matchesLinearScan() {
+        // A tiny threshold splits the array into many chunks, with duplicates across chunks.
+        ParallelLinearSearch search = new ParallelLinearSearch(8);
+        Random random = new Random(42);
+        int[] array = random.ints(20_000, 0, 5_000).toArray();
+
+        for (int target = -1; target <= 5_000; target += 7) {
+            assertWithMessage("First index of %s", target)
+                    .that(search.findFirst(array, target))
+                    .isEqualTo(Ints.indexOf(array, target));
+            assertWithMessage("Last index of %s", target)
+                    .that(search.findLast(array, target))
+                    .isEqualTo(Ints.lastIndexOf(array, target));
+        }
+    }
+
+    @Test
+    void search_targetAtChunkEdges() {
+        ParallelLinearSearch search = new ParallelLinearSearch(1_000);
+        int[] array = new int[100_000];
+        final int target = 1;
+
+        // Single occurrences at both ends and around every possible chunk boundary.
+        for (int position : new int[] { 0, 999, 1_000, 1_001, 49_999, 50_000, 99_999 }) {
+            array[position] = target;
+            assertWithMessage("First index of %s", position)
+                    .that(search.findFirst(array, target))
+                    .isEqualTo(position);
+            assertWithMessage("Last index of %s", position)
+                    .that(search.findLast(array, target))
+                    .isEqualTo(position);
+            array[position] = 0;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public abstract class SearchIndexTestBase {
+
+    private static final int[] ARRAY = { 5, 2, 8, 7, 4, 3, 9, 7, 1, 5 };
+
+    private final boolean isSortRequired;
+
+    SearchIndexTestBase(boolean isSortRequired) {
+        this.isSortRequired = isSortRequired;
+    }
+
+    abstract SearchIndex createIndex(int[] array);
+
+    private int[] prepare(int[] array) {
+        int[] prepared = array.clone();
+        if (isSortRequired) {
+            Arrays.sort(prepared);
+        }
+        return prepared;
+    }
+
+    private void searchAndAssert(int[] array, int... targets) {
+        int[] originalArray = array.clone();
+        SearchIndex index = createIndex(array);
+
+        assertThat(index.size()).isEqualTo(array.length);
+
+        for (int target : targets) {
+            assertWithMessage("First index of target %s in array %s", target,
+                    Arrays.toString(array))
+                    .that(index.findFirst(target))
+                    .isEqualTo(Ints.indexOf(array, target));
+
+            assertWithMessage("Last index of target %s in array %s", target,
+                    Arrays.toString(array))
+                    .that(index.findLast(target))
+                    .isEqualTo(Ints.lastIndexOf(array, target));
+
+            assertWithMessage("Whether array %s contains target %s", Arrays.toString(array),
+                    target)
+                    .that(index.contains(target))
+                    .isEqualTo(Ints.contains(array, target));
+        }
+
+        assertThat(array).isEqualTo(originalArray); // indexing should not mutate the array
+    }
+
+    @Test
+    void create_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> createIndex(null));
+    }
+
+    @Test
+    void search_emptyArray_returnsNotFound() {
+        searchAndAssert(new int[0], 0, 1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void search_singletonArray() {
+        searchAndAssert(new int[] { 1 }, 0, 1, 2);
+    }
+
+    @Test
+    void search_nCopiesArray() {
+        searchAndAssert(new int[] { 1, 1, 1, 1, 1, 1, 1 }, 0, 1, 2);
+    }
+
+    @Test
+    void search_smallArray_allTargets() {
+        searchAndAssert(prepare(ARRAY), 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void search_extremeValues() {
+        searchAndAssert(
+                prepare(new int[] { Integer.MAX_VALUE, 0, Integer.MIN_VALUE, Integer.MAX_VALUE }),
+                Integer.MIN_VALUE, Integer.MIN_VALUE + 1, 0, Integer.MAX_VALUE - 1,
+                Integer.MAX_VALUE);
+    }
+
+    @Test
+    void search_largeArray_withDuplicates() {
+        Random random = new Random(42);
+        int[] array = prepare(random.ints(10_000, 0, 5_000).toArray());
+        searchAndAssert(array, random.ints(1_000, -10, 5_010).toArray());
+    }
+
+}
@@ -0,0 +1,521 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import com.philectron.algorithms.benchmark.Benchmarks;
+import com.philectron.algorithms.benchmark.Measurement;
+import com.philectron.algorithms.benchmark.PerformanceBaseline;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Runs random lookups with every search on sorted arrays sized to fit into each level of the memory
+ * hierarchy, and fails if any of them got slower than its recorded baseline. Only runs in the
+ * {@code performance} Maven profile.
+ */
+@Tag("performance")
+public class SearchPerformanceTest {
+
+    private static final long SEED = 42;
+    private static final int LOOKUPS = 1 << 14;
+
+    private record ArraySize(String name, int size) {
+    }
+
+    // Typical cache sizes are 32-64 KiB for L1, 256 KiB-2 MiB for L2, and several MiB for L3.
+    private static final List<ArraySize> SIZES = List.of(
+            new ArraySize("L1", 1 << 12), // 16 KiB
+            new ArraySize("L2", 1 << 16), // 256 KiB
+            new ArraySize("L3", 1 << 20), // 4 MiB
+            new ArraySize("DRAM", 1 << 24)); // 64 MiB
+
+    // Short arrays where a linear scan competes with a binary search.
+    private static final List<ArraySize> SMALL_SIZES = List.of(
+            new ArraySize("8", 8),
+            new ArraySize("32", 32),
+            new ArraySize("128", 128),
+            new ArraySize("512", 512));
+
+    private record Lookups(int[] sortedArray, int[] targets) {
+
+        // Values are spread over twice the array size, so about half of the lookups miss.
+        static Lookups of(ArraySize size) {
+            Random random = new Random(SEED);
+            int[] sortedArray = random.ints(size.size(), 0, 2 * size.size()).toArray();
+            Arrays.sort(sortedArray);
+            return new Lookups(sortedArray, random.ints(LOOKUPS, 0, 2 * size.size()).toArray());
+        }
+
+    }
+
+    private record Searcher(String name, Function<int[], IntUnaryOperator> findFirst) {
+
+        static Searcher of(SearchAlgorithm search) {
+            return new Searcher(search.getClass().getSimpleName(),
+                    array -> target -> search.findFirst(array, target));
+        }
+
+    }
+
+    private static final List<Searcher> SEARCHERS = List.of(
+            Searcher.of(new BinarySearch()),
+            Searcher.of(new BranchlessBinarySearch()),
+            Searcher.of(new InterpolationSearch()),
+            Searcher.of(new ExponentialSearch()),
+            Searcher.of(new CachedIndexSearch()),
+            new Searcher("EytzingerIndex", array -> new EytzingerIndex(array)::findFirst),
+            new Searcher("StaticBTreeIndex", array -> new StaticBTreeIndex(array)::findFirst),
+            new Searcher("LearnedIndex", array -> new LearnedIndex(array)::findFirst),
+            new Searcher("HashIndex", array -> new HashIndex(array)::findFirst));
+
+    // Targets of the near-front lookups are drawn from this many first elements.
+    private static final int FRONT_SIZE = 1 << 10;
+
+    private static final List<SearchAlgorithm> FRONT_SEARCHES = List.of(new BinarySearch(),
+            new InterpolationSearch(), new ExponentialSearch());
+
+    private static final List<SearchAlgorithm> SMALL_SEARCHES = List.of(new LinearSearch(),
+            new BinarySearch(), new BranchlessBinarySearch(), new HybridSearch());
+
+    // Full scans are slow, so scans run fewer lookups on the larger sizes only.
+    private static final int SCAN_LOOKUPS = 1 << 4;
+
+    private static final List<SearchAlgorithm> SCAN_SEARCHES =
+            List.of(new LinearSearch(), new ParallelLinearSearch());
+
+    private static final List<SearchAlgorithm> RANGE_SEARCHES =
+            List.of(new BinarySearch(), new BranchlessBinarySearch());
+
+    private static final List<SearchAlgorithm> CONTAINS_SEARCHES =
+            List.of(new BinarySearch(), new FilteredSearch(new BinarySearch()));
+
+    private static final List<SearchAlgorithm> BATCH_SEARCHES =
+            List.of(new BinarySearch(), new BranchlessBinarySearch());
+
+    private record SourceSearcher(String name, Function<IntSource, IntToLongFunction> findFirst) {
+    }
+
+    private static final List<SourceSearcher> SOURCE_SEARCHERS = List.of(
+            new SourceSearcher("BinarySearch",
+                    source -> target -> new BinarySearch().findFirst(source, target)),
+            new SourceSearcher("SparseSourceIndex",
+                    source -> new SparseSourceIndex(source)::findFirst));
+
+    private record Shards(String name, int numArrays, int arraySize) {
+    }
+
+    // Many small shards, where per-array binary searches pay the most in total.
+    private static final List<Shards> SHARDS = List.of(
+            new Shards("256x4Ki", 256, 1 << 12),
+            new Shards("1Kix1Ki", 1 << 10, 1 << 10));
+
+    // Every query searches all shards, so fewer queries are run.
+    private static final int SHARD_LOOKUPS = 1 << 8;
+
+    private record ShardSearcher(String name,
+            Function<List<int[]>, ObjIntConsumer<int[]>> lowerBounds) {
+    }
+
+    private static final List<ShardSearcher> SHARD_SEARCHERS = List.of(
+            new ShardSearcher("BinarySearch", arrays -> (out, target) -> {
+                BinarySearch search = new BinarySearch();
+                for (int i = 0; i < out.length; ++i) {
+                    out[i] = search.lowerBound(arrays.get(i), target);
+                }
+            }),
+            new ShardSearcher("FractionalCascading", arrays -> {
+                FractionalCascading cascading = new FractionalCascading(arrays);
+                return (out, target) -> cascading.lowerBounds(target, out);
+            }));
+
+    private static PerformanceBaseline baseline;
+
+    // Keeps lookup results alive so the JIT compiler cannot eliminate the lookups.
+    private static volatile long blackhole;
+
+    @BeforeAll
+    static void loadBaseline() {
+        baseline = PerformanceBaseline.load("search");
+    }
+
+    @AfterAll
+    static void saveBaseline() {
+        baseline.save();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirst_doesNotRegress() {
+        return SIZES.stream().flatMap(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+
+            return SEARCHERS.stream().map(searcher -> {
+                final String key = searcher.name() + "/findFirst/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    IntUnaryOperator findFirst = searcher.findFirst().apply(sortedArray);
+
+                    // A fast but wrong search is not an improvement.
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("First index of %s", targets[i])
+                                .that(findFirst.applyAsInt(targets[i]))
+                                .isEqualTo(reference.findFirst(sortedArray, targets[i]));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        long sum = 0;
+                        for (int target : ts) {
+                            sum += findFirst.applyAsInt(target);
+                        }
+                        blackhole = sum;
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirstLong_doesNotRegress() {
+        return SIZES.stream().map(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+
+            // Timestamps in nanoseconds do not fit into an int.
+            final long[] sortedLongs =
+                    Arrays.stream(sortedArray).mapToLong(i -> (long) i << 32).toArray();
+            final long[] longTargets =
+                    Arrays.stream(targets).mapToLong(i -> (long) i << 32).toArray();
+
+            final String key = "BinarySearch/findFirstLong/" + size.name();
+            return DynamicTest.dynamicTest(key, () -> {
+                BinarySearch search = new BinarySearch();
+                for (int i = 0; i < 100; ++i) {
+                    assertWithMessage("First index of %s", longTargets[i])
+                            .that(search.findFirst(sortedLongs, longTargets[i]))
+                            .isEqualTo(search.findFirst(sortedArray, targets[i]));
+                }
+
+                Measurement measurement = Benchmarks.measure(LOOKUPS, () -> longTargets, ts -> {
+                    long sum = 0;
+                    for (long target : ts) {
+                        sum += search.findFirst(sortedLongs, target);
+                    }
+                    blackhole = sum;
+                });
+
+                baseline.check(key, measurement);
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirstAll_doesNotRegress() {
+        return SIZES.stream().flatMap(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+
+            return BATCH_SEARCHES.stream().map(search -> {
+                final String key =
+                        search.getClass().getSimpleName() + "/findFirstAll/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    final int[] out = new int[LOOKUPS];
+
+                    search.findFirstAll(sortedArray, targets, out);
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("First index of %s", targets[i])
+                                .that(out[i])
+                                .isEqualTo(search.findFirst(sortedArray, targets[i]));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        search.findFirstAll(sortedArray, ts, out);
+                        blackhole = out[0];
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirstNearFront_doesNotRegress() {
+        return SIZES.stream().flatMap(size -> {
+            final int[] sortedArray = Lookups.of(size).sortedArray();
+            final int[] targets = new Random(SEED).ints(LOOKUPS, 0, FRONT_SIZE)
+                    .map(i -> sortedArray[i])
+                    .toArray();
+
+            return FRONT_SEARCHES.stream().map(search -> {
+                final String key =
+                        search.getClass().getSimpleName() + "/findFirstNearFront/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("First index of %s", targets[i])
+                                .that(search.findFirst(sortedArray, targets[i]))
+                                .isEqualTo(reference.findFirst(sortedArray, targets[i]));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        long sum = 0;
+                        for (int target : ts) {
+                            sum += search.findFirst(sortedArray, target);
+                        }
+                        blackhole = sum;
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirstSmall_doesNotRegress() {
+        return SMALL_SIZES.stream().flatMap(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+
+            return SMALL_SEARCHES.stream().map(search -> {
+                final String key =
+                        search.getClass().getSimpleName() + "/findFirstSmall/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("First index of %s", targets[i])
+                                .that(search.findFirst(sortedArray, targets[i]))
+                                .isEqualTo(reference.findFirst(sortedArray, targets[i]));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        long sum = 0;
+                        for (int target : ts) {
+                            sum += search.findFirst(sortedArray, target);
+                        }
+                        blackhole = sum;
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirstUnsorted_doesNotRegress() {
+        return SIZES.subList(2, SIZES.size()).stream().flatMap(size -> {
+            Random random = new Random(SEED);
+            final int[] array = random.ints(size.size(), 0, 2 * size.size()).toArray();
+            final int[] targets = random.ints(SCAN_LOOKUPS, 0, 2 * size.size()).toArray();
+
+            return SCAN_SEARCHES.stream().map(search -> {
+                final String key =
+                        search.getClass().getSimpleName() + "/findFirstUnsorted/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    LinearSearch reference = new LinearSearch();
+                    for (int target : targets) {
+                        assertWithMessage("First index of %s", target)
+                                .that(search.findFirst(array, target))
+                                .isEqualTo(reference.findFirst(array, target));
+                    }
+
+                    Measurement measurement =
+                            Benchmarks.measure(SCAN_LOOKUPS, () -> targets, ts -> {
+                                long sum = 0;
+                                for (int target : ts) {
+                                    sum += search.findFirst(array, target);
+                                }
+                                blackhole = sum;
+                            });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> equalRange_doesNotRegress() {
+        return SIZES.stream().flatMap(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+
+            return RANGE_SEARCHES.stream().map(search -> {
+                final String key =
+                        search.getClass().getSimpleName() + "/equalRange/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("Equal range of %s", targets[i])
+                                .that(search.equalRange(sortedArray, targets[i]))
+                                .isEqualTo(new IndexRange(
+                                        reference.lowerBound(sortedArray, targets[i]),
+                                        reference.upperBound(sortedArray, targets[i])));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        long sum = 0;
+                        for (int target : ts) {
+                            sum += search.equalRange(sortedArray, target).to();
+                        }
+                        blackhole = sum;
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> contains_doesNotRegress() {
+        return SIZES.stream().flatMap(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+
+            return CONTAINS_SEARCHES.stream().map(search -> {
+                final String key = search.getClass().getSimpleName() + "/contains/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("Whether array contains %s", targets[i])
+                                .that(search.contains(sortedArray, targets[i]))
+                                .isEqualTo(reference.contains(sortedArray, targets[i]));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        long sum = 0;
+                        for (int target : ts) {
+                            sum += search.contains(sortedArray, target) ? 1 : 0;
+                        }
+                        blackhole = sum;
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> lowerBoundsAcrossShards_doesNotRegress() {
+        return SHARDS.stream().flatMap(shards -> {
+            Random random = new Random(SEED);
+            final int bound = 2 * shards.arraySize();
+            final List<int[]> arrays = Stream.generate(() -> {
+                int[] array = random.ints(shards.arraySize(), 0, bound).toArray();
+                Arrays.sort(array);
+                return array;
+            }).limit(shards.numArrays()).toList();
+            final int[] targets = random.ints(SHARD_LOOKUPS, 0, bound).toArray();
+
+            return SHARD_SEARCHERS.stream().map(searcher -> {
+                final String key = searcher.name() + "/lowerBoundsAcross/" + shards.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    ObjIntConsumer<int[]> lowerBounds = searcher.lowerBounds().apply(arrays);
+                    final int[] out = new int[arrays.size()];
+
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 10; ++i) {
+                        lowerBounds.accept(out, targets[i]);
+                        for (int j = 0; j < out.length; ++j) {
+                            assertWithMessage("Lower bound of %s", targets[i])
+                                    .that(out[j])
+                                    .isEqualTo(reference.lowerBound(arrays.get(j), targets[i]));
+                        }
+                    }
+
+                    Measurement measurement =
+                            Benchmarks.measure(SHARD_LOOKUPS, () -> targets, ts -> {
+                                for (int target : ts) {
+                                    lowerBounds.accept(out, target);
+                                }
+                                blackhole = out[0];
+                            });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findFirstMapped_doesNotRegress() {
+        return SIZES.subList(2, SIZES.size()).stream().flatMap(size -> {
+            final Lookups lookups = Lookups.of(size);
+            final int[] sortedArray = lookups.sortedArray();
+            final int[] targets = lookups.targets();
+            final IntSource source = map(sortedArray);
+
+            return SOURCE_SEARCHERS.stream().map(searcher -> {
+                final String key = searcher.name() + "/findFirstMapped/" + size.name();
+                return DynamicTest.dynamicTest(key, () -> {
+                    IntToLongFunction findFirst = searcher.findFirst().apply(source);
+
+                    BinarySearch reference = new BinarySearch();
+                    for (int i = 0; i < 100; ++i) {
+                        assertWithMessage("First index of %s", targets[i])
+                                .that(findFirst.applyAsLong(targets[i]))
+                                .isEqualTo(reference.findFirst(sortedArray, targets[i]));
+                    }
+
+                    Measurement measurement = Benchmarks.measure(LOOKUPS, () -> targets, ts -> {
+                        long sum = 0;
+                        for (int target : ts) {
+                            sum += findFirst.applyAsLong(target);
+                        }
+                        blackhole = sum;
+                    });
+
+                    baseline.check(key, measurement);
+                });
+            });
+        });
+    }
+
+    /**
+     * Writes {@code array} to a temporary file that is deleted on exit, and maps it.
+     *
+     * @param array the array to be written
+     *
+     * @return the source mapping the written file
+     */
+    private static IntSource map(int[] array) {
+        try {
+            Path file = Files.createTempFile("search", ".bin");
+            file.toFile().deleteOnExit();
+            ByteBuffer buffer = ByteBuffer.allocate(array.length * Integer.BYTES);
+            buffer.asIntBuffer().put(array);
+            Files.write(file, buffer.array());
+            return new MappedIntSource(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
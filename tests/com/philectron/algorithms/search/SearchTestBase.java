@@ -8,6 +8,7 @@ import com.google.common.primitives.Ints;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -143,4 +144,152 @@ public abstract class SearchTestBase {
         searchAndAssert();
     }
 
+    private void findFirstAllAndAssert(int[] array, int[] targets) {
+        int[] originalArray = array.clone();
+        int[] originalTargets = targets.clone();
+
+        int[] out = new int[targets.length];
+        search.findFirstAll(array, targets, out);
+
+        for (int i = 0; i < targets.length; ++i) {
+            assertWithMessage("First index of target %s", targets[i])
+                    .that(out[i])
+                    .isEqualTo(Ints.indexOf(array, targets[i]));
+        }
+
+        // Searching should mutate neither the array nor the targets.
+        assertThat(array).isEqualTo(originalArray);
+        assertThat(targets).isEqualTo(originalTargets);
+    }
+
+    @Test
+    void findFirstAll_nullArguments_fails() {
+        int[] array = list.stream().mapToInt(Integer::intValue).toArray();
+        assertThrows(NullPointerException.class,
+                () -> search.findFirstAll(null, new int[1], new int[1]));
+        assertThrows(NullPointerException.class,
+                () -> search.findFirstAll(array, null, new int[1]));
+        assertThrows(NullPointerException.class,
+                () -> search.findFirstAll(array, new int[1], null));
+    }
+
+    @Test
+    void findFirstAll_outputTooShort_fails() {
+        int[] array = list.stream().mapToInt(Integer::intValue).toArray();
+        assertThrows(IllegalArgumentException.class,
+                () -> search.findFirstAll(array, new int[2], new int[1]));
+    }
+
+    @Test
+    void findFirstAll_emptyArray_returnsNotFound() {
+        findFirstAllAndAssert(new int[0], new int[] { 1, 2, 3 });
+    }
+
+    @Test
+    void findFirstAll_mixedTargets() {
+        int[] array = list.stream().mapToInt(Integer::intValue).toArray();
+        int[] targets = new int[] { NON_TARGET, DUPLICATE_TARGET, UNIQUE_TARGET, 0, 10, 1, 9, 3,
+            DUPLICATE_TARGET, 7, 4, 8, 7, UNIQUE_TARGET };
+        findFirstAllAndAssert(array, targets);
+    }
+
+    @Test
+    void findFirstAll_outputIsTargets() {
+        Random random = new Random(0);
+        int[] array = random.ints(1000, 0, 500).toArray();
+        if (isSortRequired) {
+            Arrays.sort(array);
+        }
+        int[] targets = random.ints(1000, -10, 510).toArray();
+
+        int[] expected = new int[targets.length];
+        for (int i = 0; i < targets.length; ++i) {
+            expected[i] = Ints.indexOf(array, targets[i]);
+        }
+
+        search.findFirstAll(array, targets, targets);
+        assertThat(targets).isEqualTo(expected);
+    }
+
+    @Test
+    void findFirstAll_largeBatch() {
+        Random random = new Random(0);
+        int[] array = random.ints(2000, 0, 1000).toArray();
+        if (isSortRequired) {
+            Arrays.sort(array);
+        }
+
+        // Large enough for batched searches to take their parallel path.
+        findFirstAllAndAssert(array, random.ints(1 << 15, -10, 1010).toArray());
+    }
+
+    @Test
+    void rangeQueries_nullArray_fails() {
+        assertThrows(NullPointerException.class, () -> search.lowerBound(null, 0));
+        assertThrows(NullPointerException.class, () -> search.upperBound(null, 0));
+        assertThrows(NullPointerException.class, () -> search.equalRange(null, 0));
+        assertThrows(NullPointerException.class, () -> search.countInRange(null, 0, 1));
+    }
+
+    @Test
+    void countInRange_lowGreaterThanHigh_fails() {
+        assertThrows(IllegalArgumentException.class,
+                () -> search.countInRange(new int[] { 1, 2, 3 }, 2, 1));
+    }
+
+    @Test
+    void rangeQueries_matchLinearScan() {
+        int[][] sortedArrays = {
+            {},
+            { 5 },
+            { 1, 1, 1, 1 },
+            { 1, 2, 2, 3, 5, 5, 5, 8 },
+            { Integer.MIN_VALUE, -1, 0, 0, 7, Integer.MAX_VALUE, Integer.MAX_VALUE },
+            new Random(0).ints(1_000, 0, 100).sorted().toArray(),
+        };
+        int[] targets = { Integer.MIN_VALUE, -1, 0, 1, 2, 4, 5, 8, 9, 50, 99, 100,
+            Integer.MAX_VALUE };
+
+        for (int[] sortedArray : sortedArrays) {
+            for (int target : targets) {
+                int lowerBound = 0;
+                while (lowerBound < sortedArray.length && sortedArray[lowerBound] < target) {
+                    ++lowerBound;
+                }
+                int upperBound = lowerBound;
+                while (upperBound < sortedArray.length && sortedArray[upperBound] == target) {
+                    ++upperBound;
+                }
+
+                assertWithMessage("Lower bound of %s in %s", target, Arrays.toString(sortedArray))
+                        .that(search.lowerBound(sortedArray, target))
+                        .isEqualTo(lowerBound);
+                assertWithMessage("Upper bound of %s in %s", target, Arrays.toString(sortedArray))
+                        .that(search.upperBound(sortedArray, target))
+                        .isEqualTo(upperBound);
+                assertWithMessage("Equal range of %s in %s", target, Arrays.toString(sortedArray))
+                        .that(search.equalRange(sortedArray, target))
+                        .isEqualTo(new IndexRange(lowerBound, upperBound));
+            }
+
+            for (int low : targets) {
+                for (int high : targets) {
+                    if (low > high) {
+                        continue;
+                    }
+
+                    int count = 0;
+                    for (int element : sortedArray) {
+                        count += low <= element && element <= high ? 1 : 0;
+                    }
+
+                    assertWithMessage("Count in [%s, %s] of %s", low, high,
+                            Arrays.toString(sortedArray))
+                            .that(search.countInRange(sortedArray, low, high))
+                            .isEqualTo(count);
+                }
+            }
+        }
+    }
+
 }
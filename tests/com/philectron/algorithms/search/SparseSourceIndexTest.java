@@ -0,0 +1,62 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class SparseSourceIndexTest {
+
+    @Test
+    void create_invalidArguments_fails() {
+        assertThrows(NullPointerException.class, () -> new SparseSourceIndex(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseSourceIndex(new ArrayIntSource(new int[1]), 0));
+    }
+
+    @Test
+    void search_emptySource_returnsNotFound() {
+        SparseSourceIndex index = new SparseSourceIndex(new ArrayIntSource(new int[0]));
+        assertThat(index.size()).isEqualTo(0L);
+        assertThat(index.getSampleCount()).isEqualTo(0);
+        assertThat(index.findFirst(0)).isEqualTo(-1L);
+        assertThat(index.findLast(0)).isEqualTo(-1L);
+    }
+
+    @Test
+    void search_matchesBinarySearch() {
+        Random random = new Random(42);
+        int[] array = random.ints(2_000, -500, 500).toArray();
+        array[0] = Integer.MIN_VALUE;
+        array[1] = Integer.MAX_VALUE;
+        Arrays.sort(array);
+
+        BinarySearch reference = new BinarySearch();
+        for (int sampleInterval : new int[] { 1, 2, 7, 64, 2_000, 5_000 }) {
+            SparseSourceIndex index = new SparseSourceIndex(new ArrayIntSource(array),
+                    sampleInterval);
+            for (int target = -510; target <= 510; ++target) {
+                assertThat(index.findFirst(target))
+                        .isEqualTo((long) reference.findFirst(array, target));
+                assertThat(index.findLast(target))
+                        .isEqualTo((long) reference.findLast(array, target));
+            }
+            for (int target : new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+                assertThat(index.findFirst(target))
+                        .isEqualTo((long) reference.findFirst(array, target));
+                assertThat(index.findLast(target))
+                        .isEqualTo((long) reference.findLast(array, target));
+            }
+        }
+    }
+
+    @Test
+    void statistics_sampleOnePerInterval() {
+        SparseSourceIndex index = new SparseSourceIndex(new ArrayIntSource(new int[1_000]), 64);
+        assertThat(index.getSampleCount()).isEqualTo(16);
+        assertThat(index.getMemoryOverheadBytes()).isEqualTo(64L);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.philectron.algorithms.search;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class StaticBTreeIndexTest extends SearchIndexTestBase {
+
+    StaticBTreeIndexTest() {
+        super(true);
+    }
+
+    @Override
+    SearchIndex createIndex(int[] array) {
+        return new StaticBTreeIndex(array);
+    }
+
+    @Test
+    void search_multipleLayers_matchesBinarySearch() {
+        // 17^2 leaves of 16 keys need three layers, and the remainder leaves a partial last node.
+        Random random = new Random(42);
+        int[] array = random.ints(17 * 17 * 16 + 5, 0, 3_000).toArray();
+        Arrays.sort(array);
+
+        StaticBTreeIndex index = new StaticBTreeIndex(array);
+        BinarySearch reference = new BinarySearch();
+        for (int target = -1; target <= 3_001; ++target) {
+            assertThat(index.findFirst(target)).isEqualTo(reference.findFirst(array, target));
+            assertThat(index.findLast(target)).isEqualTo(reference.findLast(array, target));
+        }
+    }
+
+    @Test
+    void statistics_reportBuildTimeAndOverhead() {
+        StaticBTreeIndex index = new StaticBTreeIndex(new int[1_000]);
+        assertThat(index.getBuildTimeNanos()).isAtLeast(0L);
+
+        // 63 leaves (the 1,000 elements and 8 padding keys), 4 internal nodes, and 1 root, plus
+        // 3 layer offsets.
+        assertThat(index.getMemoryOverheadBytes())
+                .isEqualTo((1_000L + 8 + 4 * 16 + 16 + 3) * Integer.BYTES);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class DaryHeapSortTest extends SortTestBase {
+
+    DaryHeapSortTest() {
+        super(new DaryHeapSort());
+    }
+
+    @Test
+    void init_invalidArity_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeapSort(1));
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeapSort(0));
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeapSort(-1));
+    }
+
+    @Test
+    void sort_largeArray_variousArities() {
+        int[] original = new Random(42).ints(10_000, -100, 100).toArray();
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        for (int arity : new int[] { 2, 3, 4, 8, 16 }) {
+            int[] array = original.clone();
+            new DaryHeapSort(arity).sort(array);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void sort_arityOverflowingChildIndices() {
+        // The first child of a leaf is past Integer.MAX_VALUE for these arities, which must not
+        // wrap around to a negative index.
+        for (int arity : new int[] { 1 << 20, 1 << 30, Integer.MAX_VALUE }) {
+            int[] array = { 5, 4, 3, 2, 1 };
+            new DaryHeapSort(arity).sort(array);
+            assertThat(array).isEqualTo(new int[] { 1, 2, 3, 4, 5 });
+        }
+
+        int[] original = new Random(42).ints(5_000).toArray();
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        int[] array = original.clone();
+        new DaryHeapSort(1 << 20).sort(array);
+        assertThat(array).isEqualTo(expected);
+    }
+
+}
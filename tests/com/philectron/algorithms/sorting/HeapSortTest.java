@@ -0,0 +1,9 @@
+package com.philectron.algorithms.sorting;
+
+public class HeapSortTest extends SortTestBase {
+
+    HeapSortTest() {
+        super(new HeapSort());
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class InPlaceMergeSortTest extends SortTestBase {
+
+    InPlaceMergeSortTest() {
+        super(new InPlaceMergeSort());
+    }
+
+    @Test
+    void init_negativeBufferSize_fails() {
+        assertThrows(IllegalArgumentException.class, () -> new InPlaceMergeSort(-1));
+    }
+
+    @Test
+    void sort_withoutBuffer_rotatesOnly() {
+        SortingAlgorithm sorter = new InPlaceMergeSort(0);
+
+        int[] array = SortTestBase.buildLargeMiddleArray();
+        sorter.sort(array);
+        assertThat(array).asList().isInOrder();
+
+        array = SortTestBase.buildArbitraryArray();
+        sorter.sort(array);
+        assertThat(array).asList().isInOrder();
+    }
+
+    @Test
+    void sort_largeArray_smallBuffers() {
+        int[] original = new Random(42).ints(10_000, -100, 100).toArray();
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        for (int bufferSize : new int[] { 0, 1, 7, InPlaceMergeSort.DEFAULT_BUFFER_SIZE }) {
+            int[] array = original.clone();
+            new InPlaceMergeSort(bufferSize).sort(array);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalSorterTest {
+
+    private IncrementalSorter sorter;
+
+    @BeforeEach
+    void setUp() {
+        sorter = new IncrementalSorter(new QuickSort3Way(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sorter.close();
+    }
+
+    private static int[] drain(PrimitiveIterator.OfInt it) {
+        IntStream.Builder builder = IntStream.builder();
+        it.forEachRemaining((int value) -> builder.add(value));
+        return builder.build().toArray();
+    }
+
+    @Test
+    void init_invalidArguments_fails() {
+        assertThrows(NullPointerException.class, () -> new IncrementalSorter(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IncrementalSorter(new InsertionSort(), 1));
+    }
+
+    @Test
+    void append_nullBatch_fails() {
+        assertThrows(NullPointerException.class, () -> sorter.append(null));
+    }
+
+    @Test
+    void append_afterClose_fails() {
+        sorter.close();
+        assertThrows(IllegalStateException.class, () -> sorter.append(new int[] { 1 }));
+    }
+
+    @Test
+    void iterator_empty_hasNoElements() {
+        PrimitiveIterator.OfInt it = sorter.iterator();
+        assertThat(it.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, it::nextInt);
+        assertThat(sorter.toArray()).isEmpty();
+        assertThat(sorter.size()).isEqualTo(0);
+    }
+
+    @Test
+    void append_copiesBatch() {
+        int[] batch = SortTestBase.buildDescendingArray();
+        sorter.append(batch);
+        Arrays.fill(batch, 0);
+        assertThat(sorter.toArray()).isEqualTo(SortTestBase.buildAscendingArray());
+    }
+
+    @Test
+    void iterator_isSnapshot() {
+        sorter.append(SortTestBase.buildArbitraryArray());
+        PrimitiveIterator.OfInt it = sorter.iterator();
+        sorter.append(SortTestBase.buildLargeMiddleArray());
+
+        int[] expected = SortTestBase.buildArbitraryArray();
+        Arrays.sort(expected);
+        assertThat(drain(it)).isEqualTo(expected);
+    }
+
+    @Test
+    void append_manyBatches_compactsRuns_mergesInOrder() throws Exception {
+        Random random = new Random(42);
+        int[] expected = new int[0];
+        for (int i = 0; i < 64; ++i) {
+            int[] batch = random.ints(random.nextInt(100), -50, 50).toArray();
+            sorter.append(batch);
+
+            int[] concatenated = Arrays.copyOf(expected, expected.length + batch.length);
+            System.arraycopy(batch, 0, concatenated, expected.length, batch.length);
+            expected = concatenated;
+        }
+        Arrays.sort(expected);
+
+        assertThat(drain(sorter.iterator())).isEqualTo(expected);
+
+        sorter.awaitCompaction();
+
+        // With a merge factor of 2, at most one run is left per level.
+        assertThat(sorter.runCount()).isAtMost(Integer.SIZE - Integer.numberOfLeadingZeros(64));
+        assertThat(sorter.size()).isEqualTo(expected.length);
+        assertThat(drain(sorter.iterator())).isEqualTo(expected);
+        assertThat(sorter.toArray()).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class SampleSortTest extends SortTestBase {
+
+    SampleSortTest() {
+        super(new SampleSort());
+    }
+
+    private static void sortAndAssert(SortingAlgorithm sorter, int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        sorter.sort(array);
+        assertThat(array).isEqualTo(expected);
+    }
+
+    @Test
+    void init_invalidArguments_fails() {
+        SortingAlgorithm bucketSorter = new InsertionSort();
+        assertThrows(NullPointerException.class, () -> new SampleSort(null, 4, 2, 8));
+        assertThrows(IllegalArgumentException.class, () -> new SampleSort(bucketSorter, 1, 2, 8));
+        assertThrows(IllegalArgumentException.class, () -> new SampleSort(bucketSorter, 6, 2, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SampleSort(bucketSorter, 256, 2, 8));
+        assertThrows(IllegalArgumentException.class, () -> new SampleSort(bucketSorter, 4, 0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new SampleSort(bucketSorter, 4, 2, 0));
+    }
+
+    @Test
+    void sort_tinyThreshold_distributesSmallArrays() {
+        SortingAlgorithm sorter = new SampleSort(new InsertionSort(), 2, 1, 1);
+        sortAndAssert(sorter, SortTestBase.buildNCopiesArray());
+        sortAndAssert(sorter, SortTestBase.buildDescendingArray());
+        sortAndAssert(sorter, SortTestBase.buildLargeMiddleArray());
+        sortAndAssert(sorter, SortTestBase.buildArbitraryArray());
+    }
+
+    @Test
+    void sort_largeUniformArray() {
+        Random random = new Random(42);
+        sortAndAssert(new SampleSort(), random.ints(200_000).toArray());
+        sortAndAssert(new SampleSort(new HeapSort(), 128, 4, 64), random.ints(200_000).toArray());
+    }
+
+    @Test
+    void sort_largeSkewedArray() {
+        // Most elements are one of a few hot values, and the rest are heavy-tailed.
+        Random random = new Random(42);
+        int[] array = new int[200_000];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = random.nextInt(10) < 8
+                    ? random.nextInt(3)
+                    : (int) (random.nextGaussian() * random.nextGaussian() * 1_000_000);
+        }
+        sortAndAssert(new SampleSort(), array);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.philectron.algorithms.sorting;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.philectron.algorithms.benchmark.Benchmarks;
+import com.philectron.algorithms.benchmark.Measurement;
+import com.philectron.algorithms.benchmark.PerformanceBaseline;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Runs every sorter on reproducible seeded datasets and fails if any of them got slower or
+ * allocates more than its recorded baseline. Only runs in the {@code performance} Maven profile.
+ */
+@Tag("performance")
+public class SortPerformanceTest {
+
+    private static final long SEED = 42;
+
+    // Quadratic sorters get smaller inputs to keep the suite fast.
+    private static final int QUADRATIC_SIZE = 2_000;
+    private static final int SIZE = 50_000;
+
+    private static final List<SortingAlgorithm> QUADRATIC_SORTERS =
+            List.of(new BubbleSort(), new InsertionSort(), new SelectionSort());
+
+    private static final List<SortingAlgorithm> SORTERS = List.of(new CountingSort(),
+            new MergeSort(), new MergeSort3Way(), new InPlaceMergeSort(), new QuickSortHoare(),
+            new QuickSortLomuto(), new QuickSort3Way(), new HeapSort(), new DaryHeapSort(),
+            new SampleSort());
+
+    private static PerformanceBaseline baseline;
+
+    private record Dataset(String name, IntFunction<int[]> generator) {
+    }
+
+    private static final List<Dataset> DATASETS = List.of(
+            new Dataset("random", size -> new Random(SEED).ints(size, 0, size).toArray()),
+            new Dataset("ascending", size -> {
+                int[] array = new Random(SEED).ints(size, 0, size).toArray();
+                Arrays.sort(array);
+                return array;
+            }),
+            new Dataset("descending", size -> {
+                int[] array = new Random(SEED).ints(size, 0, size).toArray();
+                Arrays.sort(array);
+                for (int left = 0, right = size - 1; left < right; ++left, --right) {
+                    SortUtils.swap(array, left, right);
+                }
+                return array;
+            }),
+            new Dataset("fewUnique", size -> new Random(SEED).ints(size, 0, 16).toArray()));
+
+    @BeforeAll
+    static void loadBaseline() {
+        baseline = PerformanceBaseline.load("sorting");
+    }
+
+    @AfterAll
+    static void saveBaseline() {
+        baseline.save();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> sort_doesNotRegress() {
+        return Stream.concat(
+                QUADRATIC_SORTERS.stream().flatMap(sorter -> createTests(sorter, QUADRATIC_SIZE)),
+                SORTERS.stream().flatMap(sorter -> createTests(sorter, SIZE)));
+    }
+
+    private static Stream<DynamicTest> createTests(SortingAlgorithm sorter, int size) {
+        return DATASETS.stream().map(dataset -> {
+            final String key =
+                    sorter.getClass().getSimpleName() + "/" + dataset.name() + "/" + size;
+            return DynamicTest.dynamicTest(key, () -> {
+                final int[] input = dataset.generator().apply(size);
+
+                // A fast but wrong sorter is not an improvement.
+                int[] sorted = input.clone();
+                sorter.sort(sorted);
+                assertThat(sorted).asList().isInOrder();
+
+                Measurement measurement = Benchmarks.measure(size, input::clone, sorter::sort);
+
+                baseline.check(key, measurement);
+            });
+        });
+    }
+
+}